@@ -0,0 +1,205 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.Destroyed;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the thread-bound {@link ContextImpl} with the {@link SharedContextImpl}.
+ * <p>
+ * The contexts are used directly with synthetic contextuals, the container only provides the {@link BeanManager} used to fire
+ * the lifecycle events. The lifecycle events are only fired if the container contains the {@link LifecycleObserver}.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ContextBenchmark {
+
+    private static final int CONTEXTUALS = 64;
+
+    @State(Scope.Benchmark)
+    public static class Contexts {
+
+        @Param({ "threadLocal", "shared" })
+        String context;
+
+        @Param({ "false", "true" })
+        boolean observers;
+
+        WeldContainer container;
+
+        ContextImpl ctx;
+
+        SyntheticContextual[] contextuals;
+
+        @Setup
+        public void setup() {
+            Weld weld = new Weld().disableDiscovery().addBeanClass(SyntheticContextual.class);
+            if (observers) {
+                weld.addBeanClass(LifecycleObserver.class);
+            }
+            container = weld.initialize();
+            BeanManager beanManager = container.getBeanManager();
+            ctx = "shared".equals(context) ? new SharedContextImpl(RequestScoped.class, beanManager)
+                    : new ContextImpl(RequestScoped.class, beanManager);
+            contextuals = new SyntheticContextual[CONTEXTUALS];
+            for (int i = 0; i < CONTEXTUALS; i++) {
+                contextuals[i] = new SyntheticContextual();
+            }
+            if (!ctx.isThreadBound()) {
+                ctx.activate();
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            if (!ctx.isThreadBound()) {
+                ctx.deactivate();
+            }
+            container.shutdown();
+        }
+
+        void createAll() {
+            BeanManager beanManager = container.getBeanManager();
+            for (SyntheticContextual contextual : contextuals) {
+                ctx.get(contextual, beanManager.createCreationalContext(contextual));
+            }
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Lookup {
+
+        int next;
+
+        @Setup
+        public void setup(Contexts contexts) {
+            if (contexts.ctx.isThreadBound()) {
+                contexts.ctx.activate();
+            }
+            contexts.createAll();
+        }
+
+        @TearDown
+        public void tearDown(Contexts contexts) {
+            if (contexts.ctx.isThreadBound()) {
+                contexts.ctx.deactivate();
+            }
+        }
+
+    }
+
+    /**
+     * Looks up existing instances from several threads; the shared context holds one instance per contextual for all threads.
+     */
+    @Benchmark
+    @Threads(8)
+    public Object lookup(Contexts contexts, Lookup lookup) {
+        return contexts.ctx.get(contexts.contextuals[lookup.next++ & (CONTEXTUALS - 1)]);
+    }
+
+    /**
+     * Activates and deactivates the context without creating any instance, i.e. the cost of the lifecycle events.
+     */
+    @Benchmark
+    @Threads(1)
+    @BenchmarkMode(Mode.AverageTime)
+    public void activateDeactivate(Contexts contexts) {
+        ContextImpl ctx = contexts.ctx;
+        if (!ctx.isThreadBound()) {
+            ctx.deactivate();
+        }
+        ctx.activate();
+        ctx.deactivate();
+        if (!ctx.isThreadBound()) {
+            ctx.activate();
+        }
+    }
+
+    /**
+     * Activates the context, creates an instance of each contextual and deactivates the context again. The cost of the
+     * first-time creation is the difference to {@link #activateDeactivate(Contexts)}.
+     */
+    @Benchmark
+    @Threads(1)
+    @BenchmarkMode(Mode.AverageTime)
+    public void activateCreateDeactivate(Contexts contexts) {
+        ContextImpl ctx = contexts.ctx;
+        if (!ctx.isThreadBound()) {
+            ctx.deactivate();
+        }
+        ctx.activate();
+        contexts.createAll();
+        ctx.deactivate();
+        if (!ctx.isThreadBound()) {
+            ctx.activate();
+        }
+    }
+
+    public static class LifecycleObserver {
+
+        void initialized(@Observes @Initialized(RequestScoped.class) Object event) {
+        }
+
+        void destroyed(@Observes @Destroyed(RequestScoped.class) Object event) {
+        }
+
+    }
+
+    public static class SyntheticContextual implements Contextual<Object> {
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return new Object();
+        }
+
+        @Override
+        public void destroy(Object instance, CreationalContext<Object> creationalContext) {
+            creationalContext.release();
+        }
+
+    }
+
+}
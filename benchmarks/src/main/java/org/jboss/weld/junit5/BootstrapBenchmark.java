@@ -0,0 +1,346 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.SessionScoped;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.junit.MockBean;
+import org.jboss.weld.junit5.auto.ActivateScopes;
+import org.jboss.weld.junit5.auto.AutomagicDeployment;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the boot and shutdown of a container for the different ways a {@link WeldInitiator} can be configured.
+ * <p>
+ * The deployment is generated and compiled once per trial. Every bean class injects two other bean classes so that the
+ * deployment forms a tree, every fourth bean class is {@link jakarta.enterprise.context.ApplicationScoped} and so needs a
+ * client proxy. The test class injects the root of the tree. The generated classes are loaded by a dedicated class loader which
+ * is also set as the thread context class loader, the classes directory contains a {@code beans.xml} so that it is discovered
+ * by {@link WeldInitiator#performDefaultDiscovery()}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class BootstrapBenchmark {
+
+    private static final String PACKAGE = "org.jboss.weld.junit5.bootstrap";
+
+    /**
+     * The ways a {@link WeldInitiator} can be configured.
+     */
+    public enum Bootstrap {
+
+        /**
+         * {@link WeldInitiator#of(Class...)}
+         */
+        OF {
+            @Override
+            WeldInitiator create(Deployment deployment, List<Bean<?>> mockBeans) {
+                return WeldInitiator.of(deployment.beanClasses);
+            }
+        },
+        /**
+         * {@link WeldInitiator#from(Class...)} with activated contexts and the given mock beans
+         */
+        FROM {
+            @Override
+            WeldInitiator create(Deployment deployment, List<Bean<?>> mockBeans) {
+                return WeldInitiator.from(deployment.beanClasses)
+                        .activate(RequestScoped.class, SessionScoped.class)
+                        .addBeans(mockBeans.toArray(new Bean<?>[0]))
+                        .build();
+            }
+        },
+        /**
+         * {@link WeldInitiator#fromTestPackage()}
+         */
+        TEST_PACKAGE {
+            @Override
+            WeldInitiator create(Deployment deployment, List<Bean<?>> mockBeans) {
+                return WeldInitiator.fromTestPackage().build();
+            }
+        },
+        /**
+         * {@link WeldInitiator#performDefaultDiscovery()}
+         */
+        DEFAULT_DISCOVERY {
+            @Override
+            WeldInitiator create(Deployment deployment, List<Bean<?>> mockBeans) {
+                return WeldInitiator.performDefaultDiscovery();
+            }
+        },
+        /**
+         * The <b>automagic</b> configuration of {@link org.jboss.weld.junit5.auto.WeldJunit5AutoExtension}
+         */
+        AUTOMAGIC {
+            @Override
+            WeldInitiator create(Deployment deployment, List<Bean<?>> mockBeans) {
+                Weld weld = WeldInitiator.createWeld();
+                WeldInitiator.Builder builder = WeldInitiator.from(weld);
+                AutomagicDeployment.configure(weld, builder, deployment.testInstance);
+                return builder.build();
+            }
+        };
+
+        abstract WeldInitiator create(Deployment deployment, List<Bean<?>> mockBeans);
+
+    }
+
+    @State(Scope.Thread)
+    public static class Deployment {
+
+        @Param({ "10", "100", "1000" })
+        int beans;
+
+        Class<?>[] beanClasses;
+
+        Object testInstance;
+
+        private Path directory;
+
+        private URLClassLoader classLoader;
+
+        private ClassLoader originalContextClassLoader;
+
+        @Setup(Level.Trial)
+        public void generate() throws Exception {
+            directory = Files.createTempDirectory("weld-junit-benchmark");
+            Path sources = Files.createDirectories(directory.resolve("src"));
+            List<File> files = new ArrayList<>();
+            for (int i = 0; i < beans; i++) {
+                String scope = i % 4 == 3 ? "@ApplicationScoped" : "@Dependent";
+                files.add(write(sources, scope + " public class Bean" + i, bean(i)));
+            }
+            files.add(write(sources, "@ActivateScopes(RequestScoped.class) public class DeploymentTest", "@Inject Bean0 root;\n"));
+            Path classes = Files.createDirectories(directory.resolve("classes"));
+            compile(files, classes);
+            Files.writeString(Files.createDirectories(classes.resolve("META-INF")).resolve("beans.xml"),
+                    "<beans xmlns=\"https://jakarta.ee/xml/ns/jakartaee\" version=\"4.0\" bean-discovery-mode=\"all\"/>\n");
+
+            classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() }, BootstrapBenchmark.class.getClassLoader());
+            beanClasses = new Class<?>[beans];
+            for (int i = 0; i < beans; i++) {
+                beanClasses[i] = classLoader.loadClass(PACKAGE + ".Bean" + i);
+            }
+            testInstance = classLoader.loadClass(PACKAGE + ".DeploymentTest").getConstructor().newInstance();
+            // The test package and default discovery paths load the classes through the context class loader
+            originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+            Thread.currentThread().setContextClassLoader(classLoader);
+        }
+
+        @TearDown(Level.Trial)
+        public void delete() throws IOException {
+            Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+            classLoader.close();
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+
+        private String bean(int i) {
+            StringBuilder body = new StringBuilder();
+            if (2 * i + 1 < beans) {
+                body.append("@Inject Bean").append(2 * i + 1).append(" left;\n");
+            }
+            if (2 * i + 2 < beans) {
+                body.append("@Inject Bean").append(2 * i + 2).append(" right;\n");
+            }
+            return body.toString();
+        }
+
+        private static File write(Path sources, String declaration, String body) throws IOException {
+            Path file = sources.resolve(declaration.substring(declaration.lastIndexOf(' ') + 1) + ".java");
+            Files.writeString(file, "package " + PACKAGE + ";\n"
+                    + "import jakarta.enterprise.context.ApplicationScoped;\n"
+                    + "import jakarta.enterprise.context.Dependent;\n"
+                    + "import jakarta.enterprise.context.RequestScoped;\n"
+                    + "import jakarta.inject.Inject;\n"
+                    + "import org.jboss.weld.junit5.auto.ActivateScopes;\n"
+                    + declaration + " {\n" + body + "}\n");
+            return file.toFile();
+        }
+
+        private static void compile(List<File> files, Path output) throws IOException {
+            String classpath = Stream.of(Dependent.class, Inject.class, ActivateScopes.class)
+                    .map(Deployment::location)
+                    .distinct()
+                    .collect(Collectors.joining(File.pathSeparator));
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+                List<String> options = List.of("-proc:none", "-classpath", classpath, "-d", output.toString());
+                if (!compiler.getTask(null, fileManager, null, options, null, fileManager.getJavaFileObjectsFromFiles(files))
+                        .call()) {
+                    throw new IllegalStateException("Unable to compile the generated deployment");
+                }
+            }
+        }
+
+        private static String location(Class<?> clazz) {
+            try {
+                return Path.of(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class MockBeans {
+
+        @Param({ "0", "10", "100" })
+        int mockBeans;
+
+        List<Bean<?>> create() {
+            List<Bean<?>> result = new ArrayList<>(mockBeans);
+            for (int i = 0; i < mockBeans; i++) {
+                result.add(MockBean.<Integer> builder()
+                        .types(Integer.class)
+                        .qualifiers(NamedLiteral.of("mock" + i))
+                        .creating(i)
+                        .build());
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * The difference of the used heap before the boot and after the boot, both measured after a full GC. Reported as a
+     * secondary result of {@link BootstrapBenchmark#retainedHeap(Deployment, Configuration, RetainedHeap)}.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeap {
+
+        public long retainedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedBytes = 0;
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class Configuration {
+
+        @Param
+        Bootstrap bootstrap;
+
+    }
+
+    @Benchmark
+    public WeldContainer of(Deployment deployment) {
+        return bootAndShutdown(Bootstrap.OF.create(deployment, List.of()), deployment);
+    }
+
+    @Benchmark
+    public WeldContainer fromActivateAddBeans(Deployment deployment, MockBeans mockBeans) {
+        return bootAndShutdown(Bootstrap.FROM.create(deployment, mockBeans.create()), deployment);
+    }
+
+    @Benchmark
+    public WeldContainer fromTestPackage(Deployment deployment) {
+        return bootAndShutdown(Bootstrap.TEST_PACKAGE.create(deployment, List.of()), deployment);
+    }
+
+    @Benchmark
+    public WeldContainer performDefaultDiscovery(Deployment deployment) {
+        return bootAndShutdown(Bootstrap.DEFAULT_DISCOVERY.create(deployment, List.of()), deployment);
+    }
+
+    @Benchmark
+    public WeldContainer automagic(Deployment deployment) {
+        return bootAndShutdown(Bootstrap.AUTOMAGIC.create(deployment, List.of()), deployment);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public WeldContainer retainedHeap(Deployment deployment, Configuration configuration, RetainedHeap heap) {
+        WeldInitiator initiator = configuration.bootstrap.create(deployment, List.of());
+        long before = usedHeapAfterGc();
+        WeldContainer container = initiator.initWeld(deployment.testInstance);
+        try {
+            heap.retainedBytes += usedHeapAfterGc() - before;
+        } finally {
+            initiator.shutdownWeld();
+        }
+        return container;
+    }
+
+    private static WeldContainer bootAndShutdown(WeldInitiator initiator, Deployment deployment) {
+        WeldContainer container = initiator.initWeld(deployment.testInstance);
+        initiator.shutdownWeld();
+        return container;
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        // A single System.gc() does not necessarily collect everything unreachable
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+}
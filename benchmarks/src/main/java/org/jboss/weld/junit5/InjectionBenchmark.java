@@ -0,0 +1,136 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.InjectionTarget;
+import jakarta.inject.Inject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the injection of the non-contextual test instances of a data-driven feature, e.g. a Spock {@code where:} table
+ * with 10,000 rows. A new test instance is injected for every row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class InjectionBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @State(Scope.Benchmark)
+    public static class Container {
+
+        WeldInitiator weld;
+
+        @Setup
+        public void setup() {
+            weld = WeldInitiator.of(Service.class, Repository.class);
+            weld.initWeld(new Specification());
+        }
+
+        @TearDown
+        public void tearDown() {
+            weld.shutdownWeld();
+        }
+
+    }
+
+    /**
+     * Injects and releases each instance separately, the injection target is created once per container and test class.
+     */
+    @Benchmark
+    public void perIteration(Container container) throws Exception {
+        for (int i = 0; i < ROWS; i++) {
+            try (AutoCloseable contextReleaser = container.weld.injectNonContextual(new Specification())) {
+                // the iteration
+            }
+        }
+    }
+
+    /**
+     * Injects all instances sharing a single creational context.
+     */
+    @Benchmark
+    public void bulk(Container container) throws Exception {
+        List<Specification> specifications = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            specifications.add(new Specification());
+        }
+        try (AutoCloseable contextReleaser = container.weld.injectNonContextualAll(specifications)) {
+            // the iterations
+        }
+    }
+
+    /**
+     * The baseline, a new injection target is created for each instance.
+     */
+    @Benchmark
+    public void uncached(Container container) {
+        BeanManager beanManager = container.weld.getBeanManager();
+        for (int i = 0; i < ROWS; i++) {
+            Specification specification = new Specification();
+            CreationalContext<Specification> ctx = beanManager.createCreationalContext(null);
+            InjectionTarget<Specification> injectionTarget = beanManager
+                    .getInjectionTargetFactory(beanManager.createAnnotatedType(Specification.class))
+                    .createInjectionTarget(null);
+            injectionTarget.inject(specification, ctx);
+            ctx.release();
+        }
+    }
+
+    public static class Specification {
+
+        @Inject
+        Service service;
+
+        @Inject
+        Repository repository;
+
+    }
+
+    @Dependent
+    public static class Service {
+
+    }
+
+    @ApplicationScoped
+    public static class Repository {
+
+    }
+
+}
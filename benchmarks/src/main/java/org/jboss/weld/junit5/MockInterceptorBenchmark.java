@@ -0,0 +1,133 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.interceptor.InterceptorBinding;
+
+import org.jboss.weld.junit.MockInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of {@link Dependent} bean instances intercepted by a {@link MockInterceptor}. A new interceptor
+ * instance is created for every intercepted bean instance. {@link #createPlain(Container)} creates a bean instance without
+ * any interceptor and serves as the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class MockInterceptorBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Container {
+
+        WeldInitiator weld;
+
+        Instance<InterceptedBean> intercepted;
+
+        Instance<PlainBean> plain;
+
+        @Setup
+        public void setup() {
+            weld = WeldInitiator.from(InterceptedBean.class, PlainBean.class)
+                    .addBeans(MockInterceptor.withBindings(Mocked.Literal.INSTANCE)
+                            .aroundInvoke((ctx, bean) -> ctx.proceed()))
+                    .build();
+            weld.initWeld(new Object());
+            intercepted = weld.select(InterceptedBean.class);
+            plain = weld.select(PlainBean.class);
+        }
+
+        @TearDown
+        public void tearDown() {
+            weld.shutdownWeld();
+        }
+
+    }
+
+    @Benchmark
+    public int createIntercepted(Container container) {
+        InterceptedBean bean = container.intercepted.get();
+        int result = bean.ping();
+        container.intercepted.destroy(bean);
+        return result;
+    }
+
+    @Benchmark
+    public int createPlain(Container container) {
+        PlainBean bean = container.plain.get();
+        int result = bean.ping();
+        container.plain.destroy(bean);
+        return result;
+    }
+
+    @Mocked
+    @Dependent
+    public static class InterceptedBean {
+
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @Dependent
+    public static class PlainBean {
+
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    @InterceptorBinding
+    public @interface Mocked {
+
+        @SuppressWarnings("serial")
+        final class Literal extends AnnotationLiteral<Mocked> implements Mocked {
+
+            public static final Literal INSTANCE = new Literal();
+
+        }
+
+    }
+
+}
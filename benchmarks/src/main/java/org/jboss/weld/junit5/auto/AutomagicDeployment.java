@@ -0,0 +1,49 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.auto;
+
+import java.util.List;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * Configures a deployment the same way {@link WeldJunit5AutoExtension} does, without the need of a JUnit
+ * {@link org.junit.jupiter.api.extension.ExtensionContext}.
+ */
+public final class AutomagicDeployment {
+
+    private AutomagicDeployment() {
+    }
+
+    /**
+     *
+     * @param weld the result of {@link WeldInitiator#createWeld()}
+     * @param builder the builder created for the given {@link Weld} instance
+     * @param testInstance a top-level test instance
+     */
+    public static void configure(Weld weld, WeldInitiator.Builder builder, Object testInstance) {
+        Class<?> testClass = testInstance.getClass();
+        ClassScanning.scanForRequiredBeanClasses(List.of(testClass), weld, false);
+        weld.addBeanClasses(testClass);
+        weld.addExtension(new TestInstanceInjectionExtension<>(testInstance));
+        AnnotationSupport.findRepeatableAnnotations(testClass, ActivateScopes.class)
+                .forEach(activateScopes -> builder.activate(activateScopes.value()));
+    }
+
+}
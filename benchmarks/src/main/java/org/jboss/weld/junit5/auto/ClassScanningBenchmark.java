@@ -0,0 +1,209 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.auto;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.environment.se.Weld;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the <b>automagic</b> class scanning over a synthetic graph of bean classes.
+ * <p>
+ * The graph is generated and compiled once per trial. Every node is a {@link Dependent} bean injecting two other nodes - one
+ * via a field and one via an initializer method - and every tenth node also references an already visited node. The test
+ * class injects the root node.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ClassScanningBenchmark {
+
+    private static final String PACKAGE = "org.jboss.weld.junit5.auto.graph";
+
+    @State(Scope.Benchmark)
+    public static class Graph {
+
+        @Param({ "1000", "10000" })
+        int classes;
+
+        Path directory;
+
+        List<Class<?>> testClasses;
+
+        private URLClassLoader classLoader;
+
+        @Setup(Level.Trial)
+        public void generate() throws IOException, ClassNotFoundException {
+            directory = Files.createTempDirectory("weld-junit-benchmark");
+            Path sources = Files.createDirectories(directory.resolve("src"));
+            List<File> files = new ArrayList<>();
+            for (int i = 0; i < classes; i++) {
+                files.add(write(sources, "@Dependent public class Node" + i, node(i)));
+            }
+            files.add(write(sources, "public class GraphTest", "@Inject Node0 root;\n@Test void test(Node1 node) {}\n"));
+            compile(files, Files.createDirectories(directory.resolve("classes")));
+
+            classLoader = newClassLoader();
+            testClasses = List.of(classLoader.loadClass(PACKAGE + ".GraphTest"));
+        }
+
+        @TearDown(Level.Trial)
+        public void delete() throws IOException {
+            classLoader.close();
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+
+        URLClassLoader newClassLoader() throws IOException {
+            return new URLClassLoader(new URL[] { directory.resolve("classes").toUri().toURL() },
+                    ClassScanningBenchmark.class.getClassLoader());
+        }
+
+        private String node(int i) {
+            StringBuilder body = new StringBuilder();
+            if (2 * i + 1 < classes) {
+                body.append("@Inject Node").append(2 * i + 1).append(" field;\n");
+            }
+            if (2 * i + 2 < classes) {
+                body.append("@Inject void init(Node").append(2 * i + 2).append(" node) {}\n");
+            }
+            if (i % 10 == 9) {
+                body.append("@Inject Node").append(i / 2).append(" visited;\n");
+            }
+            return body.toString();
+        }
+
+        private static File write(Path sources, String declaration, String body) throws IOException {
+            Path file = sources.resolve(declaration.substring(declaration.lastIndexOf(' ') + 1) + ".java");
+            Files.writeString(file, "package " + PACKAGE + ";\n"
+                    + "import jakarta.enterprise.context.Dependent;\n"
+                    + "import jakarta.inject.Inject;\n"
+                    + "import org.junit.jupiter.api.Test;\n"
+                    + declaration + " {\n" + body + "}\n");
+            return file.toFile();
+        }
+
+        private static void compile(List<File> files, Path output) throws IOException {
+            String classpath = Stream.of(Dependent.class, Inject.class, Test.class)
+                    .map(Graph::location)
+                    .distinct()
+                    .collect(Collectors.joining(File.pathSeparator));
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+                List<String> options = List.of("-proc:none", "-classpath", classpath, "-d", output.toString());
+                if (!compiler.getTask(null, fileManager, null, options, null, fileManager.getJavaFileObjectsFromFiles(files))
+                        .call()) {
+                    throw new IllegalStateException("Unable to compile the generated graph");
+                }
+            }
+        }
+
+        private static String location(Class<?> clazz) {
+            try {
+                return Path.of(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+    /**
+     * Loads the graph with a new class loader before each invocation so that no memoized class metadata can be reused.
+     */
+    @State(Scope.Thread)
+    public static class ColdGraph {
+
+        List<Class<?>> testClasses;
+
+        private URLClassLoader classLoader;
+
+        @Setup(Level.Invocation)
+        public void load(Graph graph) throws IOException, ClassNotFoundException {
+            classLoader = graph.newClassLoader();
+            for (int i = 0; i < graph.classes; i++) {
+                Class.forName(PACKAGE + ".Node" + i, false, classLoader);
+            }
+            testClasses = List.of(classLoader.loadClass(PACKAGE + ".GraphTest"));
+        }
+
+        @TearDown(Level.Invocation)
+        public void close() {
+            try {
+                classLoader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+    @Benchmark
+    public Weld scan(Graph graph) {
+        Weld weld = new Weld();
+        ClassScanning.scanForRequiredBeanClasses(graph.testClasses, weld, false);
+        return weld;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 20)
+    public Weld scanColdMetadata(ColdGraph graph) {
+        Weld weld = new Weld();
+        ClassScanning.scanForRequiredBeanClasses(graph.testClasses, weld, false);
+        return weld;
+    }
+
+}
@@ -20,25 +20,38 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import jakarta.annotation.Resource;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.context.NormalScope;
+import jakarta.enterprise.context.spi.AlterableContext;
+import jakarta.enterprise.context.spi.Context;
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.Any;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.Extension;
 import jakarta.enterprise.inject.spi.InjectionPoint;
 import jakarta.enterprise.inject.spi.InjectionTarget;
 import jakarta.enterprise.util.TypeLiteral;
@@ -48,6 +61,10 @@ import org.jboss.weld.environment.ContainerInstance;
 import org.jboss.weld.environment.se.Weld;
 import org.jboss.weld.environment.se.WeldContainer;
 import org.jboss.weld.inject.WeldInstance;
+import org.jboss.weld.junit.WeldContainerPool.PooledContainer;
+import org.jboss.weld.junit.jfr.ContainerBootEvent;
+import org.jboss.weld.junit.jfr.ContainerShutdownEvent;
+import org.jboss.weld.junit.jfr.InjectionEvent;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -90,12 +107,31 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
 
     protected volatile WeldContainer container;
 
+    // the extension registered in the running container, differs from extension if the container was leased from a pool
+    private volatile WeldCDIExtension containerExtension;
+
+    // true if the container was returned to a pool or its shutdown was handed over to a background thread
+    private volatile boolean containerDetached;
+
+    // not null if the initiator was configured with bean classes only, i.e. the Weld instance is not accessible to users
+    private volatile List<Class<?>> deploymentClasses;
+
+    private volatile WeldContainerPool containerPool;
+
+    private volatile DeploymentFingerprint deploymentFingerprint;
+
+    // the injection targets of the non-contextual instances, e.g. the test instances of data-driven features
+    private volatile InjectionTargets injectionTargets;
+
+    private volatile ContainerEvent containerEvent;
+
     protected AbstractWeldInitiator(Weld weld, List<Object> instancesToInject,
             Set<Class<? extends Annotation>> scopesToActivate, Set<Bean<?>> beans,
             Map<String, Object> resources, Function<InjectionPoint, Object> ejbFactory,
             Function<InjectionPoint, Object> persistenceUnitFactory,
             Function<InjectionPoint, Object> persistenceContextFactory) {
-        this.instancesToInject = new ArrayList<>();
+        // test methods executed concurrently may share the initiator
+        this.instancesToInject = new CopyOnWriteArrayList<>();
         for (Object instance : instancesToInject) {
             this.instancesToInject.add(createToInject(instance));
         }
@@ -162,6 +198,23 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
         return toInject::release;
     }
 
+    /**
+     * Injects the given non-contextual instances immediately. All instances share a single creational context, i.e. the
+     * dependent objects of all instances are destroyed at once when the returned {@link AutoCloseable} is closed.
+     *
+     * @param targets the targets to inject
+     * @return an {@code AutoCloseable} to release the creational context
+     * @see #injectNonContextual(Object)
+     */
+    public AutoCloseable injectNonContextualAll(Collection<?> targets) {
+        checkContainer();
+        CreationalContext<Object> ctx = container.getBeanManager().createCreationalContext(null);
+        for (Object target : targets) {
+            injectInstance(target, ctx);
+        }
+        return ctx::release;
+    }
+
     @Override
     public Iterator<Object> iterator() {
         checkContainer();
@@ -223,20 +276,43 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
     }
 
     /**
-     * Allows to fire events.
+     * Allows to fire events. The event object is obtained once per container.
      *
      * @return an event object
      */
-    @SuppressWarnings("unchecked")
     public Event<Object> event() {
         checkContainer();
-        try {
-            // We need to use reflection due to some compatibility issues
-            Method eventMethod = container.getClass().getMethod("event");
-            return (Event<Object>) eventMethod.invoke(container);
-        } catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException
-                | InvocationTargetException e) {
-            throw new IllegalStateException("Cannot invoke WeldContainer.event() method using reflection", e);
+        WeldContainer current = container;
+        ContainerEvent cached = containerEvent;
+        if (cached == null || cached.container != current) {
+            cached = new ContainerEvent(current, lookupEvent(current));
+            containerEvent = cached;
+        }
+        return cached.event;
+    }
+
+    /**
+     * Fires the given events with the given qualifiers, in the given order. The observers are resolved once per runtime type
+     * of the events, which makes this method more efficient than firing each event separately if the events share a few
+     * types.
+     *
+     * @param events the events to fire
+     * @param qualifiers the qualifiers of all events
+     * @see #event()
+     */
+    @SuppressWarnings("unchecked")
+    public void fireAll(Collection<?> events, Annotation... qualifiers) {
+        Event<Object> event = event().select(qualifiers);
+        // every selected event object caches the observers resolved for its type
+        Map<Class<?>, Event<Object>> eventsByType = new HashMap<>();
+        for (Object payload : events) {
+            Class<?> type = payload.getClass();
+            if (type.getTypeParameters().length > 0) {
+                // the type arguments of a generic event type are only known at runtime
+                event.fire(payload);
+            } else {
+                eventsByType.computeIfAbsent(type, key -> (Event<Object>) event.select(key)).fire(payload);
+            }
         }
     }
 
@@ -253,10 +329,20 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
 
     /**
      * Note that any container-based operation will result in {@link IllegalStateException} after shutdown.
+     * <p>
+     * A container leased from a pool is shut down as well, it is not returned to the pool. Nothing happens if the container was
+     * already returned to a pool or handed over to a background thread, since it may be used by another initiator at this
+     * point.
+     * </p>
      */
     @Override
     public void shutdown() {
-        container.shutdown();
+        if (containerDetached) {
+            return;
+        }
+        containerPool = null;
+        deploymentFingerprint = null;
+        shutdownWeldContainer();
     }
 
     /**
@@ -265,7 +351,7 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
      *         otherwise
      */
     public boolean isRunning() {
-        return (container != null) && container.isRunning();
+        return (container != null) && !containerDetached && container.isRunning();
     }
 
     /**
@@ -278,17 +364,122 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
         return container;
     }
 
+    /**
+     * The custom contexts (see {@link AbstractBuilder#activate(Class...)}) are bound to the thread which activated them. The
+     * returned executor captures the contexts of the thread which submits a task and executes the task with the same context
+     * instances, i.e. the task and the test share all {@link jakarta.enterprise.context.RequestScoped} bean instances and so
+     * on. The tasks must complete before the test is finished.
+     *
+     * @param executor the executor running the tasks
+     * @return an executor propagating the custom contexts to the submitted tasks
+     */
+    public Executor contextPropagatingExecutor(Executor executor) {
+        Objects.requireNonNull(executor);
+        return command -> executor.execute(captureContexts().wrap(command));
+    }
+
+    /**
+     * The executor service counterpart of {@link #contextPropagatingExecutor(Executor)}. Shutting down the returned
+     * executor service shuts down the given one.
+     *
+     * @param executorService the executor service running the tasks
+     * @return an executor service propagating the custom contexts to the submitted tasks
+     * @see #contextPropagatingExecutor(Executor)
+     */
+    public ExecutorService contextPropagatingExecutorService(ExecutorService executorService) {
+        Objects.requireNonNull(executorService);
+        return new ContextPropagatingExecutorService(executorService, this::captureContexts);
+    }
+
+    /**
+     * The contexts are captured when a new thread is requested. A thread-per-task executor backed by the returned factory
+     * therefore propagates the contexts of the thread which submits a task, e.g. on Java 21+:
+     *
+     * <pre>{@code
+     * ExecutorService executor = Executors.newThreadPerTaskExecutor(weld.contextPropagatingThreadFactory(Thread.ofVirtual().factory()));
+     * }</pre>
+     *
+     * @param threadFactory the factory creating the threads
+     * @return a thread factory propagating the custom contexts to the created threads
+     * @see #contextPropagatingExecutor(Executor)
+     */
+    public ThreadFactory contextPropagatingThreadFactory(ThreadFactory threadFactory) {
+        Objects.requireNonNull(threadFactory);
+        return runnable -> threadFactory.newThread(captureContexts().wrap(runnable));
+    }
+
+    /**
+     * Takes a snapshot of the bean instances of the custom contexts (see {@link AbstractBuilder#activate(Class...)}) active for
+     * the current thread. The instances are retained, i.e. not destroyed when the contexts are deactivated, until the snapshot
+     * is closed. This is useful if the instances are expensive to create and later tests using the same container can reuse
+     * them:
+     *
+     * <pre>{@code
+     * if (snapshot == null) {
+     *     weld.select(ExpensiveFixture.class).get().load();
+     *     snapshot = weld.snapshotContexts();
+     * } else {
+     *     weld.restoreContexts(snapshot);
+     * }
+     * }</pre>
+     *
+     * @return the snapshot
+     * @see #restoreContexts(ContextsSnapshot)
+     */
+    public ContextsSnapshot snapshotContexts() {
+        checkContainer();
+        WeldCDIExtension extension = containerExtension;
+        if (extension == null) {
+            throw new IllegalStateException("No contexts were activated");
+        }
+        return new ContextsSnapshot(extension, extension.snapshotContexts());
+    }
+
+    /**
+     * Puts the instances of the given snapshot into the custom contexts active for the current thread. The instances are shared
+     * with all tests restoring the snapshot. No {@link jakarta.enterprise.context.Initialized} or
+     * {@link jakarta.enterprise.context.Destroyed} events are fired, the contexts were already activated.
+     *
+     * @param snapshot the snapshot taken in the same container
+     * @throws IllegalStateException if the snapshot was taken in a different container or closed already
+     */
+    public void restoreContexts(ContextsSnapshot snapshot) {
+        checkContainer();
+        snapshot.restoreTo(containerExtension, null);
+    }
+
+    /**
+     * Puts copies of the instances of the given snapshot into the custom contexts active for the current thread. The copies
+     * are destroyed along with the contexts.
+     *
+     * @param snapshot the snapshot taken in the same container
+     * @param copyStrategy the function creating a copy of an instance
+     * @throws IllegalStateException if the snapshot was taken in a different container or closed already
+     * @see #restoreContexts(ContextsSnapshot)
+     */
+    public void restoreContexts(ContextsSnapshot snapshot, UnaryOperator<Object> copyStrategy) {
+        Objects.requireNonNull(copyStrategy);
+        checkContainer();
+        snapshot.restoreTo(containerExtension, copyStrategy);
+    }
+
+    private ContextSnapshot captureContexts() {
+        return ContextSnapshot.capture(isRunning() ? containerExtension : null);
+    }
+
     private void checkContainer() {
-        if (container == null || !container.isRunning()) {
+        if (!isRunning()) {
             throw new IllegalStateException("Weld container is not running");
         }
     }
 
     protected void injectInstances() {
         if (instancesToInject != null) {
+            long start = System.nanoTime();
             for (ToInject toInject : instancesToInject) {
                 toInject.inject();
             }
+            LifecycleTimings.record(LifecyclePhase.INJECTION, start);
         }
     }
 
@@ -300,6 +491,32 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
         }
     }
 
+    private void injectInstance(Object instance, CreationalContext<Object> ctx) {
+        InjectionEvent event = new InjectionEvent();
+        event.begin();
+        InjectionTarget<Object> injectionTarget = getInjectionTarget(instance.getClass());
+        injectionTarget.inject(instance, ctx);
+        event.end();
+        if (event.shouldCommit()) {
+            event.describeCurrentTest();
+            event.containerId = container.getId();
+            event.beanCount = injectionTarget.getInjectionPoints().size();
+            event.instanceClass = instance.getClass().getName();
+            event.commit();
+        }
+    }
+
+    private InjectionTarget<Object> getInjectionTarget(Class<?> clazz) {
+        WeldContainer current = container;
+        InjectionTargets targets = injectionTargets;
+        if (targets == null || targets.container != current) {
+            // the container was replaced, e.g. a new test method boots its own container
+            targets = new InjectionTargets(current);
+            injectionTargets = targets;
+        }
+        return targets.get(clazz);
+    }
+
     private boolean hasScopesToActivate() {
         return scopesToActivate != null && !scopesToActivate.isEmpty();
     }
@@ -319,19 +536,16 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
         }
 
         void inject() {
-            BeanManager beanManager = container.getBeanManager();
-            CreationalContext<Object> ctx = beanManager.createCreationalContext(null);
-            @SuppressWarnings("unchecked")
-            InjectionTarget<Object> injectionTarget = (InjectionTarget<Object>) beanManager
-                    .getInjectionTargetFactory(beanManager.createAnnotatedType(instance.getClass()))
-                    .createInjectionTarget(null);
-            injectionTarget.inject(instance, ctx);
+            CreationalContext<Object> ctx = container.getBeanManager().createCreationalContext(null);
+            injectInstance(instance, ctx);
             creationalContext = ctx;
         }
 
         void release() {
-            if (creationalContext != null) {
-                creationalContext.release();
+            CreationalContext<?> ctx = creationalContext;
+            if (ctx != null) {
+                creationalContext = null;
+                ctx.release();
             }
         }
 
@@ -356,6 +570,10 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
 
         private Function<InjectionPoint, Object> persistenceContextFactory;
 
+        private List<Class<?>> deploymentClasses;
+
+        private final Set<Class<? extends Annotation>> sharedScopes = new HashSet<>();
+
         public AbstractBuilder(Weld weld) {
             this.weld = weld;
             this.instancesToInject = new ArrayList<>();
@@ -389,6 +607,30 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
             return self();
         }
 
+        /**
+         * Activate and deactivate contexts for the given normal scopes just like {@link #activate(Class...)}, but each context
+         * is shared by all threads instead of being bound to the thread executing the test. This is useful for tests which
+         * access a context from many threads at the same time.
+         * <p>
+         * There is no more than one instance per bean in a shared context for all threads. The context is active for all
+         * threads once the container is initialized, and so no propagation (see
+         * {@link AbstractWeldInitiator#contextPropagatingExecutor(java.util.concurrent.Executor)}) is needed.
+         * </p>
+         *
+         * @param normalScopes
+         * @return self
+         */
+        @SafeVarargs
+        public final T activateShared(Class<? extends Annotation>... normalScopes) {
+            activate(normalScopes);
+            for (Class<? extends Annotation> scope : normalScopes) {
+                if (!ApplicationScoped.class.equals(scope)) {
+                    this.sharedScopes.add(scope);
+                }
+            }
+            return self();
+        }
+
         protected Function<InjectionPoint, Object> getEjbFactory() {
             return ejbFactory;
         }
@@ -401,6 +643,19 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
             return persistenceUnitFactory;
         }
 
+        /**
+         * Records the bean classes the underlying {@link Weld} instance was configured with. Should only be used if the
+         * {@link Weld} instance is not accessible outside of the builder so that the set of classes fully describes the
+         * deployment and containers can be shared through a {@link WeldContainerPool}.
+         *
+         * @param beanClasses
+         * @return self
+         */
+        protected T deploymentClasses(Class<?>... beanClasses) {
+            this.deploymentClasses = List.of(beanClasses);
+            return self();
+        }
+
         /**
          * Instructs the initiator to inject the given non-contextual instance once the container is started, i.e. during test
          * execution.
@@ -526,15 +781,223 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
          * @return a new initiator instance
          */
         public I build() {
-            return build(weld, instancesToInject.isEmpty() ? Collections.emptyList() : new ArrayList<>(instancesToInject),
+            I initiator = build(weld,
+                    instancesToInject.isEmpty() ? Collections.emptyList() : new ArrayList<>(instancesToInject),
                     scopesToActivate.isEmpty() ? Collections.<Class<? extends Annotation>> emptySet()
                             : new HashSet<>(scopesToActivate),
                     beans.isEmpty() ? Collections.<Bean<?>> emptySet() : new HashSet<>(beans));
+            ((AbstractWeldInitiator) initiator).deploymentClasses = deploymentClasses;
+            if (!sharedScopes.isEmpty()) {
+                ((AbstractWeldInitiator) initiator).extension.setSharedScopes(new HashSet<>(sharedScopes));
+            }
+            return initiator;
         }
 
     }
 
+    /**
+     * Attempts to lease a running container with the same deployment fingerprint from the given pool. If there is no such
+     * container, the container is booted as usual. In both cases the container is returned to the pool during
+     * {@link #shutdownWeldContainer()}.
+     * <p>
+     * If the deployment cannot be fingerprinted, e.g. because the initiator was created from a {@link Weld} instance which may
+     * be configured arbitrarily, the pool is not used at all.
+     * </p>
+     *
+     * @param weld the Weld instance used if no pooled container is available
+     * @param pool the pool, may be {@code null}
+     * @param testClass the test class, used if the initiator was created via {@code fromTestPackage()}
+     * @return the running container
+     */
+    protected WeldContainer initWeldContainer(Weld weld, WeldContainerPool pool, Class<?> testClass) {
+        DeploymentFingerprint fingerprint = pool != null ? getDeploymentFingerprint(testClass) : null;
+        if (fingerprint == null) {
+            return initWeldContainer(weld);
+        }
+        containerPool = pool;
+        deploymentFingerprint = fingerprint;
+        PooledContainer pooled = pool.lease(fingerprint);
+        if (pooled == null) {
+            return initWeldContainer(weld);
+        }
+        container = pooled.container;
+        containerExtension = pooled.extension;
+        containerDetached = false;
+        activateContainerContexts();
+        injectInstances();
+        return container;
+    }
+
+    /**
+     * Reuses the running container of the given initiator instead of booting a new one. The custom contexts are activated
+     * and the non-contextual instances of this initiator are injected. The given initiator remains the owner of the container,
+     * i.e. it is responsible for the final {@link #shutdownWeldContainer()}.
+     *
+     * @param owner the initiator which booted the container
+     * @return the running container
+     * @see #resetWeldContainer()
+     */
+    protected WeldContainer initWeldContainer(AbstractWeldInitiator owner) {
+        if (!owner.isRunning()) {
+            throw new IllegalStateException("Weld container is not running");
+        }
+        container = owner.container;
+        containerExtension = owner.containerExtension;
+        containerDetached = false;
+        activateContainerContexts();
+        injectInstances();
+        return container;
+    }
+
+    /**
+     * Resets the state of the running container without shutting it down. The custom contexts are deactivated, the creational
+     * contexts of injected non-contextual instances are released and all {@link ApplicationScoped} bean instances are
+     * destroyed.
+     *
+     * @see #initWeldContainer(AbstractWeldInitiator)
+     */
+    protected void resetWeldContainer() {
+        BeanProfiler profiler = getBeanProfiler();
+        long start = System.nanoTime();
+        try {
+            if (containerExtension != null) {
+                containerExtension.deactivateContexts();
+            }
+            releaseInstances();
+        } finally {
+            if (container != null && container.isRunning()) {
+                destroyApplicationScopedInstances();
+            }
+            LifecycleTimings.record(LifecyclePhase.SHUTDOWN, start);
+            recordBeanStatistics(profiler);
+        }
+    }
+
+    /**
+     * Boots a container for the deployment of this initiator in advance and releases it to the given pool so that a
+     * subsequent {@link #initWeldContainer(Weld, WeldContainerPool, Class)} with the same deployment fingerprint leases it
+     * instead of booting a new one. The state of this initiator is not modified.
+     * <p>
+     * Nothing happens if the deployment cannot be fingerprinted.
+     * </p>
+     *
+     * @param weld the Weld instance used to boot the container
+     * @param pool the pool the container is released to
+     * @param testClass the test class, used if the initiator was created via {@code fromTestPackage()}
+     * @return {@code true} if a container was booted, {@code false} otherwise
+     */
+    protected boolean prefetchWeldContainer(Weld weld, WeldContainerPool pool, Class<?> testClass) {
+        DeploymentFingerprint fingerprint = getDeploymentFingerprint(testClass);
+        if (fingerprint == null) {
+            return false;
+        }
+        pool.release(fingerprint, new PooledContainer(bootWeldContainer(weld), extension));
+        return true;
+    }
+
     protected WeldContainer initWeldContainer(Weld weld) {
+        // Init the container
+        container = bootWeldContainer(weld);
+        containerExtension = extension;
+        containerDetached = false;
+        activateContainerContexts();
+        injectInstances();
+        return container;
+    }
+
+    protected void shutdownWeldContainer() {
+        shutdownWeldContainer(null, null);
+    }
+
+    /**
+     * Activates the custom contexts (see {@link AbstractBuilder#activate(Class...)}) for the current thread unless they are
+     * already active. The contexts are thread-bound, so a test method executed on a different thread than the one which
+     * initialized the container needs to activate them on its own. Shared contexts (see
+     * {@link AbstractBuilder#activateShared(Class...)}) are left untouched.
+     *
+     * @return {@code true} if the contexts were activated and need to be deactivated via
+     *         {@link #deactivateContextsForCurrentThread()}, {@code false} otherwise
+     */
+    protected boolean activateContextsForCurrentThread() {
+        WeldCDIExtension extension = containerExtension;
+        if (extension == null || !isRunning() || extension.areThreadBoundContextsActive()) {
+            return false;
+        }
+        long start = System.nanoTime();
+        extension.activateThreadBoundContexts();
+        LifecycleTimings.record(LifecyclePhase.CONTEXT_ACTIVATION, start);
+        return true;
+    }
+
+    /**
+     * Deactivates the custom contexts for the current thread.
+     *
+     * @see #activateContextsForCurrentThread()
+     */
+    protected void deactivateContextsForCurrentThread() {
+        WeldCDIExtension extension = containerExtension;
+        if (extension != null && isRunning()) {
+            long start = System.nanoTime();
+            extension.deactivateThreadBoundContexts();
+            LifecycleTimings.record(LifecyclePhase.SHUTDOWN, start);
+        }
+    }
+
+    /**
+     * Deactivates the contexts and releases the injected non-contextual instances synchronously. The container itself is
+     * either returned to the pool it was leased from, shut down by the given executor or shut down synchronously if no
+     * executor is given.
+     *
+     * @param executor the executor, may be {@code null}
+     * @param origin the description of the test which requested the shutdown, used when reporting failures
+     */
+    protected void shutdownWeldContainer(ContainerShutdownExecutor executor, String origin) {
+        if (containerDetached) {
+            // already released, the contexts of the container must not be touched anymore
+            return;
+        }
+        WeldContainerPool pool = containerPool;
+        DeploymentFingerprint fingerprint = deploymentFingerprint;
+        containerPool = null;
+        deploymentFingerprint = null;
+        boolean released = false;
+        BeanProfiler profiler = getBeanProfiler();
+        ContainerShutdownEvent event = new ContainerShutdownEvent();
+        if (event.isEnabled() && isRunning()) {
+            event.containerId = container.getId();
+            event.beanCount = countBeans(container.getBeanManager());
+        }
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            if (containerExtension != null) {
+                containerExtension.deactivateContexts();
+            }
+            releaseInstances();
+            released = true;
+        } finally {
+            if (isRunning()) {
+                if (pool != null && released) {
+                    containerDetached = true;
+                    pool.release(fingerprint, new PooledContainer(container, containerExtension));
+                } else if (executor != null) {
+                    containerDetached = true;
+                    executor.submit(container, origin);
+                } else {
+                    container.shutdown();
+                }
+            }
+            LifecycleTimings.record(LifecyclePhase.SHUTDOWN, start);
+            recordBeanStatistics(profiler);
+            event.end();
+            if (event.shouldCommit()) {
+                event.describeCurrentTest();
+                event.commit();
+            }
+        }
+    }
+
+    private WeldContainer bootWeldContainer(Weld weld) {
         // Register mock injection services if needed
         if (!resources.isEmpty()) {
             weld.addServices(new MockResourceInjectionServices(resources));
@@ -545,25 +1008,150 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
         if (persistenceContextFactory != null || persistenceUnitFactory != null) {
             weld.addServices(new MockJpaInjectionServices(persistenceUnitFactory, persistenceContextFactory));
         }
-        // Init the container
-        container = weld.initialize();
-        if (extension != null) {
-            extension.activateContexts();
+        if (BeanProfiler.isEnabled()) {
+            BeanProfiler.register(weld);
         }
-        injectInstances();
-        return container;
+        ContainerBootEvent event = new ContainerBootEvent();
+        event.begin();
+        long start = System.nanoTime();
+        WeldContainer booted = weld.initialize();
+        LifecycleTimings.record(LifecyclePhase.BOOT, start);
+        event.end();
+        LifecycleTimings timings = LifecycleTimings.current();
+        if (timings != null) {
+            timings.addContainer(countBeans(booted.getBeanManager()));
+        }
+        if (event.shouldCommit()) {
+            event.describeCurrentTest();
+            event.containerId = booted.getId();
+            event.beanCount = countBeans(booted.getBeanManager());
+            event.commit();
+        }
+        return booted;
     }
 
-    protected void shutdownWeldContainer() {
+    private void activateContainerContexts() {
+        if (containerExtension != null) {
+            long start = System.nanoTime();
+            containerExtension.activateContexts();
+            LifecycleTimings.record(LifecyclePhase.CONTEXT_ACTIVATION, start);
+        }
+    }
+
+    private BeanProfiler getBeanProfiler() {
+        if (!BeanProfiler.isEnabled() || LifecycleTimings.current() == null || !isRunning()) {
+            return null;
+        }
+        return BeanProfiler.of(container.getBeanManager());
+    }
+
+    private static void recordBeanStatistics(BeanProfiler profiler) {
+        LifecycleTimings timings = LifecycleTimings.current();
+        if (profiler != null && timings != null) {
+            timings.addBeanStatistics(profiler.drain());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Event<Object> lookupEvent(WeldContainer container) {
         try {
-            if (extension != null) {
-                extension.deactivateContexts();
+            // We need to use reflection due to some compatibility issues
+            Method eventMethod = container.getClass().getMethod("event");
+            return (Event<Object>) eventMethod.invoke(container);
+        } catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot invoke WeldContainer.event() method using reflection", e);
+        }
+    }
+
+    private static final class ContainerEvent {
+
+        private final WeldContainer container;
+
+        private final Event<Object> event;
+
+        private ContainerEvent(WeldContainer container, Event<Object> event) {
+            this.container = container;
+            this.event = event;
+        }
+
+    }
+
+    /**
+     * The injection targets created for a particular container, an injection target only depends on the class of the
+     * instance.
+     */
+    private static final class InjectionTargets {
+
+        private final WeldContainer container;
+
+        private final Map<Class<?>, InjectionTarget<Object>> targets = new ConcurrentHashMap<>();
+
+        private InjectionTargets(WeldContainer container) {
+            this.container = container;
+        }
+
+        @SuppressWarnings("unchecked")
+        private InjectionTarget<Object> get(Class<?> clazz) {
+            return targets.computeIfAbsent(clazz, key -> {
+                BeanManager beanManager = container.getBeanManager();
+                return (InjectionTarget<Object>) beanManager
+                        .getInjectionTargetFactory(beanManager.createAnnotatedType(key))
+                        .createInjectionTarget(null);
+            });
+        }
+
+    }
+
+    private static int countBeans(BeanManager beanManager) {
+        return beanManager.getBeans(Object.class, Any.Literal.INSTANCE).size();
+    }
+
+    private void destroyApplicationScopedInstances() {
+        BeanManager beanManager = container.getBeanManager();
+        Context applicationContext = beanManager.getContext(ApplicationScoped.class);
+        if (!(applicationContext instanceof AlterableContext)) {
+            return;
+        }
+        for (Bean<?> bean : beanManager.getBeans(Object.class, Any.Literal.INSTANCE)) {
+            // extensions are application scoped too but they must survive
+            if (ApplicationScoped.class.equals(bean.getScope()) && !bean.getTypes().contains(Extension.class)) {
+                ((AlterableContext) applicationContext).destroy(bean);
             }
-            releaseInstances();
-        } finally {
-            if (container != null && container.isRunning()) {
-                container.shutdown();
+        }
+    }
+
+    private DeploymentFingerprint getDeploymentFingerprint(Class<?> testClass) {
+        DeploymentFingerprint.Builder builder = DeploymentFingerprint.builder();
+        if (deploymentClasses != null) {
+            for (Class<?> deploymentClass : deploymentClasses) {
+                builder.add("class", deploymentClass.getName());
             }
+        } else if (weld == null && testClass != null) {
+            // fromTestPackage()
+            builder.add("package", testClass.getPackage().getName());
+        } else {
+            // the Weld instance could have been configured arbitrarily
+            return null;
+        }
+        for (Class<? extends Annotation> scope : scopesToActivate) {
+            builder.add("scope", scope.getName());
+        }
+        if (extension != null) {
+            for (Class<? extends Annotation> scope : extension.getSharedScopes()) {
+                builder.add("sharedScope", scope.getName());
+            }
+        }
+        for (Bean<?> bean : beans) {
+            builder.addIdentity("bean", bean);
+        }
+        for (Map.Entry<String, Object> resource : new TreeMap<>(resources).entrySet()) {
+            builder.add("resource", resource.getKey());
+            builder.addIdentity("resourceValue", resource.getValue());
         }
+        builder.addIdentity("ejbFactory", ejbFactory);
+        builder.addIdentity("persistenceUnitFactory", persistenceUnitFactory);
+        builder.addIdentity("persistenceContextFactory", persistenceContextFactory);
+        return builder.build();
     }
 }
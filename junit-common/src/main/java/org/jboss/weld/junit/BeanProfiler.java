@@ -0,0 +1,274 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.AnnotatedField;
+import jakarta.enterprise.inject.spi.AnnotatedMember;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.Extension;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.enterprise.inject.spi.InjectionTarget;
+import jakarta.enterprise.inject.spi.ProcessInjectionTarget;
+import jakarta.enterprise.inject.spi.ProcessProducer;
+import jakarta.enterprise.inject.spi.Producer;
+
+import org.jboss.weld.environment.se.Weld;
+
+/**
+ * A portable extension counting and timing the creation and destruction of bean instances.
+ * <p>
+ * The profiler is enabled via the {@value #ENABLED} system property. The initiator registers the extension when the container
+ * is booted and every {@link InjectionTarget} and {@link Producer} is wrapped. The statistics are collected in lock-free
+ * counters allocated once per bean and are added to the {@link LifecycleTimings} of the current test when the container is
+ * shut down or reset, see {@link LifecycleTimings#getBeanStatistics()}. Instances destroyed by a container shut down in the
+ * background are not included.
+ * </p>
+ */
+public final class BeanProfiler implements Extension {
+
+    /**
+     * System property enabling the bean profiler.
+     */
+    public static final String ENABLED = "org.jboss.weld.junit.beanProfiling";
+
+    // the Weld instances the profiler was added to; Weld does not override equals() so the identity is used
+    private static final Set<Weld> REGISTERED = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    BeanProfiler() {
+    }
+
+    /**
+     *
+     * @return {@code true} if the bean profiler is enabled, {@code false} otherwise
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED);
+    }
+
+    /**
+     * Adds a new profiler to the given Weld instance unless it was already added before.
+     *
+     * @param weld
+     */
+    static void register(Weld weld) {
+        synchronized (REGISTERED) {
+            if (!REGISTERED.add(weld)) {
+                return;
+            }
+        }
+        weld.addExtension(new BeanProfiler());
+    }
+
+    /**
+     *
+     * @param beanManager
+     * @return the profiler registered in the given container or {@code null}
+     */
+    static BeanProfiler of(BeanManager beanManager) {
+        try {
+            return beanManager.getExtension(BeanProfiler.class);
+        } catch (IllegalArgumentException e) {
+            // the container was booted without the profiler
+            return null;
+        }
+    }
+
+    <T> void processInjectionTarget(@Observes ProcessInjectionTarget<T> event) {
+        Counters beanCounters = counters(event.getAnnotatedType().getJavaClass().getName());
+        event.setInjectionTarget(new ProfilingInjectionTarget<>(event.getInjectionTarget(), beanCounters));
+    }
+
+    <T, X> void processProducer(@Observes ProcessProducer<T, X> event) {
+        AnnotatedMember<T> member = event.getAnnotatedMember();
+        String name = member.getDeclaringType().getJavaClass().getName() + "#" + member.getJavaMember().getName();
+        Counters beanCounters = counters(member instanceof AnnotatedField ? name : name + "()");
+        event.setProducer(new ProfilingProducer<>(event.getProducer(), beanCounters));
+    }
+
+    /**
+     * Returns the statistics of all beans with at least one created or destroyed instance and resets the counters.
+     *
+     * @return the statistics collected since the last invocation
+     */
+    List<BeanStatistics> drain() {
+        List<BeanStatistics> statistics = new ArrayList<>();
+        for (Counters beanCounters : counters.values()) {
+            long creations = beanCounters.creations.sumThenReset();
+            long destructions = beanCounters.destructions.sumThenReset();
+            long creationNanos = beanCounters.creationNanos.sumThenReset();
+            long destructionNanos = beanCounters.destructionNanos.sumThenReset();
+            if (creations > 0 || destructions > 0) {
+                statistics.add(new BeanStatistics(beanCounters.bean, creations, creationNanos, destructions,
+                        destructionNanos));
+            }
+        }
+        return statistics;
+    }
+
+    private Counters counters(String bean) {
+        return counters.computeIfAbsent(bean, Counters::new);
+    }
+
+    private static final class Counters {
+
+        private final String bean;
+
+        private final LongAdder creations = new LongAdder();
+
+        private final LongAdder creationNanos = new LongAdder();
+
+        private final LongAdder destructions = new LongAdder();
+
+        private final LongAdder destructionNanos = new LongAdder();
+
+        private Counters(String bean) {
+            this.bean = bean;
+        }
+
+        private void created(long startNanos) {
+            creationNanos.add(System.nanoTime() - startNanos);
+            creations.increment();
+        }
+
+        private void creating(long startNanos) {
+            creationNanos.add(System.nanoTime() - startNanos);
+        }
+
+        private void destroyed(long startNanos) {
+            destructionNanos.add(System.nanoTime() - startNanos);
+            destructions.increment();
+        }
+
+    }
+
+    private static final class ProfilingProducer<T> implements Producer<T> {
+
+        private final Producer<T> delegate;
+
+        private final Counters counters;
+
+        ProfilingProducer(Producer<T> delegate, Counters counters) {
+            this.delegate = delegate;
+            this.counters = counters;
+        }
+
+        @Override
+        public T produce(CreationalContext<T> ctx) {
+            long start = System.nanoTime();
+            try {
+                return delegate.produce(ctx);
+            } finally {
+                counters.created(start);
+            }
+        }
+
+        @Override
+        public void dispose(T instance) {
+            long start = System.nanoTime();
+            try {
+                delegate.dispose(instance);
+            } finally {
+                counters.destroyed(start);
+            }
+        }
+
+        @Override
+        public Set<InjectionPoint> getInjectionPoints() {
+            return delegate.getInjectionPoints();
+        }
+
+    }
+
+    private static final class ProfilingInjectionTarget<T> implements InjectionTarget<T> {
+
+        private final InjectionTarget<T> delegate;
+
+        private final Counters counters;
+
+        ProfilingInjectionTarget(InjectionTarget<T> delegate, Counters counters) {
+            this.delegate = delegate;
+            this.counters = counters;
+        }
+
+        // the instantiation, the injection and the callback are timed separately so that no state needs to be kept between
+        // the invocations
+        @Override
+        public T produce(CreationalContext<T> ctx) {
+            long start = System.nanoTime();
+            try {
+                return delegate.produce(ctx);
+            } finally {
+                counters.created(start);
+            }
+        }
+
+        @Override
+        public void inject(T instance, CreationalContext<T> ctx) {
+            long start = System.nanoTime();
+            try {
+                delegate.inject(instance, ctx);
+            } finally {
+                counters.creating(start);
+            }
+        }
+
+        @Override
+        public void postConstruct(T instance) {
+            long start = System.nanoTime();
+            try {
+                delegate.postConstruct(instance);
+            } finally {
+                counters.creating(start);
+            }
+        }
+
+        @Override
+        public void preDestroy(T instance) {
+            long start = System.nanoTime();
+            try {
+                delegate.preDestroy(instance);
+            } finally {
+                counters.destroyed(start);
+            }
+        }
+
+        @Override
+        public void dispose(T instance) {
+            delegate.dispose(instance);
+        }
+
+        @Override
+        public Set<InjectionPoint> getInjectionPoints() {
+            return delegate.getInjectionPoints();
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+/**
+ * The number of instances of a single bean created and destroyed during a test together with the time spent doing so.
+ * <p>
+ * The creation time of a bean class includes the constructor, the injection and the {@code @PostConstruct} callback; the
+ * creation time of a producer includes the producer method invocation. The time is inclusive, i.e. it also contains the time
+ * spent creating the dependencies of the bean.
+ * </p>
+ *
+ * @see BeanProfiler
+ */
+public final class BeanStatistics {
+
+    private final String bean;
+
+    private final long creations;
+
+    private final long creationNanos;
+
+    private final long destructions;
+
+    private final long destructionNanos;
+
+    BeanStatistics(String bean, long creations, long creationNanos, long destructions, long destructionNanos) {
+        this.bean = bean;
+        this.creations = creations;
+        this.creationNanos = creationNanos;
+        this.destructions = destructions;
+        this.destructionNanos = destructionNanos;
+    }
+
+    /**
+     *
+     * @return the bean class name or the producer, e.g. {@code org.acme.Producers#produceFoo()}
+     */
+    public String getBean() {
+        return bean;
+    }
+
+    /**
+     *
+     * @return the number of created instances
+     */
+    public long getCreations() {
+        return creations;
+    }
+
+    /**
+     *
+     * @return the time spent creating instances in nanoseconds
+     */
+    public long getCreationNanos() {
+        return creationNanos;
+    }
+
+    /**
+     *
+     * @return the number of destroyed instances
+     */
+    public long getDestructions() {
+        return destructions;
+    }
+
+    /**
+     *
+     * @return the time spent destroying instances in nanoseconds
+     */
+    public long getDestructionNanos() {
+        return destructionNanos;
+    }
+
+    BeanStatistics merge(BeanStatistics other) {
+        return new BeanStatistics(bean, creations + other.creations, creationNanos + other.creationNanos,
+                destructions + other.destructions, destructionNanos + other.destructionNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "creations=" + creations + ", creationNanos=" + creationNanos + ", destructions=" + destructions
+                + ", destructionNanos=" + destructionNanos;
+    }
+
+}
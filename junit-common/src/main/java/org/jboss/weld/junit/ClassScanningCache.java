@@ -0,0 +1,176 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * A persistent cache of the <b>automagic</b> class scanning results. The cache is disabled by default and can be enabled via
+ * the {@value #ENABLED} system property.
+ * <p>
+ * There is one file per combination of test classes and explicit parameter injection setting. Besides the {@link ScanResult}
+ * itself, the file contains a checksum of the bytecode of every class the result depends on. A cached result is only replayed
+ * if all the checksums still match, otherwise the test classes are scanned again and the file is rewritten. Files are written
+ * to a temporary file first and then moved to the target location so that concurrent readers never see a partial file.
+ * </p>
+ */
+public final class ClassScanningCache {
+
+    /**
+     * System property enabling the cache.
+     */
+    public static final String ENABLED = "org.jboss.weld.junit.scanCache";
+
+    /**
+     * System property which can be used to change the cache directory, {@value #DEFAULT_DIRECTORY} is used by default.
+     */
+    public static final String DIRECTORY = "org.jboss.weld.junit.scanCacheDir";
+
+    public static final String DEFAULT_DIRECTORY = "target/weld-scan-cache";
+
+    private static final Logger LOGGER = Logger.getLogger(ClassScanningCache.class.getName());
+
+    private static final String VERSION = "1";
+
+    private static final String MISSING = "missing";
+
+    private ClassScanningCache() {
+    }
+
+    /**
+     * Returns the cached result if the cache is enabled and the cached result is still valid. Otherwise the given scanner is
+     * used to compute the result which is then cached.
+     *
+     * @param testClasses the scanned test classes, the first one is used to load the cached classes
+     * @param explicitInjection whether explicit parameter injection is required
+     * @param scanner computes the result
+     * @return the result
+     */
+    public static ScanResult getOrCompute(List<Class<?>> testClasses, boolean explicitInjection,
+            Supplier<ScanResult> scanner) {
+        if (!Boolean.getBoolean(ENABLED)) {
+            return scanner.get();
+        }
+        ClassLoader classLoader = testClasses.get(0).getClassLoader();
+        String header = header(testClasses, explicitInjection);
+        Path file = Paths.get(System.getProperty(DIRECTORY, DEFAULT_DIRECTORY))
+                .resolve(testClasses.get(0).getName() + "-" + Integer.toHexString(header.hashCode()) + ".scan");
+        ScanResult cached = read(file, header, classLoader);
+        if (cached != null) {
+            return cached;
+        }
+        ScanResult result = scanner.get();
+        write(file, header, result);
+        return result;
+    }
+
+    private static String header(List<Class<?>> testClasses, boolean explicitInjection) {
+        StringBuilder header = new StringBuilder();
+        header.append("version ").append(VERSION).append('\n');
+        for (Class<?> testClass : testClasses) {
+            header.append("test ").append(testClass.getName()).append('\n');
+        }
+        header.append("explicitInjection ").append(explicitInjection).append('\n');
+        return header.toString();
+    }
+
+    private static ScanResult read(Path file, String header, ClassLoader classLoader) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            String content = Files.readString(file);
+            if (!content.startsWith(header)) {
+                return null;
+            }
+            List<String> lines = content.substring(header.length()).lines().collect(Collectors.toList());
+            for (String line : lines) {
+                if (line.startsWith("checksum ")) {
+                    String[] parts = line.split(" ");
+                    if (parts.length != 3 || !parts[2].equals(checksum(parts[1], classLoader))) {
+                        return null;
+                    }
+                }
+            }
+            return ScanResult.readFrom(lines);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Ignoring invalid class scanning cache file " + file, e);
+            return null;
+        }
+    }
+
+    private static void write(Path file, String header, ScanResult result) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                    writer.write(header);
+                    for (Class<?> dependency : result.getDependencies()) {
+                        writer.append("checksum ").append(dependency.getName()).append(' ')
+                                .append(checksum(dependency.getName(), dependency.getClassLoader())).append('\n');
+                    }
+                    result.writeTo(writer);
+                }
+                try {
+                    Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Unable to write class scanning cache file " + file, e);
+        }
+    }
+
+    private static String checksum(String className, ClassLoader classLoader) throws IOException {
+        if (classLoader == null) {
+            classLoader = ClassLoader.getSystemClassLoader();
+        }
+        try (InputStream in = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            if (in == null) {
+                return MISSING;
+            }
+            CRC32 crc = new CRC32();
+            byte[] buffer = new byte[8192];
+            long length = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+                length += read;
+            }
+            return Long.toHexString(crc.getValue()) + ":" + length;
+        }
+    }
+
+}
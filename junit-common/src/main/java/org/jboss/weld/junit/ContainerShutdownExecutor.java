@@ -0,0 +1,115 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.weld.environment.se.WeldContainer;
+
+/**
+ * Shuts down Weld containers on a bounded set of background threads so that the shutdown does not prolong the execution of
+ * a test.
+ * <p>
+ * If all threads are busy and the queue of pending shutdowns is full, the container is shut down synchronously by the calling
+ * thread. Failures are collected together with the test which requested the shutdown and reported by {@link #drain()}.
+ * </p>
+ *
+ * @see AbstractWeldInitiator#shutdownWeldContainer(ContainerShutdownExecutor, String)
+ */
+public class ContainerShutdownExecutor {
+
+    private static final Logger LOGGER = Logger.getLogger(ContainerShutdownExecutor.class.getName());
+
+    private static final int QUEUE_CAPACITY_PER_THREAD = 4;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Queue<Exception> failures = new ConcurrentLinkedQueue<>();
+
+    /**
+     *
+     * @param threads the maximum number of threads used to shut down containers
+     */
+    public ContainerShutdownExecutor(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of threads must be greater than zero: " + threads);
+        }
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * QUEUE_CAPACITY_PER_THREAD), runnable -> {
+                    Thread thread = new Thread(runnable, "weld-container-shutdown-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Schedules the shutdown of the given container.
+     *
+     * @param container the container to shut down
+     * @param origin the description of the test which requested the shutdown, used when reporting failures
+     */
+    public void submit(WeldContainer container, String origin) {
+        executor.execute(() -> {
+            try {
+                if (container.isRunning()) {
+                    container.shutdown();
+                }
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Unable to shut down container " + container.getId() + " of " + origin, e);
+                failures.add(new IllegalStateException(
+                        "Unable to shut down Weld container " + container.getId() + " of " + origin, e));
+            }
+        });
+    }
+
+    /**
+     * Waits until all scheduled shutdowns are finished and stops the background threads.
+     *
+     * @throws IllegalStateException if any of the shutdowns failed, the failures of particular containers are attached as
+     *         suppressed exceptions
+     */
+    public void drain() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Exception> failed = new ArrayList<>(failures);
+        failures.clear();
+        if (!failed.isEmpty()) {
+            IllegalStateException exception = new IllegalStateException(
+                    failed.size() + " Weld container(s) could not be shut down: " + failed.get(0).getMessage());
+            for (Exception failure : failed) {
+                exception.addSuppressed(failure);
+            }
+            throw exception;
+        }
+    }
+
+}
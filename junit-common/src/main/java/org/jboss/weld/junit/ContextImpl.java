@@ -17,8 +17,11 @@
 package org.jboss.weld.junit;
 
 import java.lang.annotation.Annotation;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
 import jakarta.enterprise.context.ContextNotActiveException;
@@ -27,8 +30,13 @@ import jakarta.enterprise.context.Initialized;
 import jakarta.enterprise.context.spi.Context;
 import jakarta.enterprise.context.spi.Contextual;
 import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.event.Event;
 import jakarta.enterprise.inject.spi.BeanManager;
 
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.junit.jfr.ContextActivationEvent;
+import org.jboss.weld.junit.jfr.ContextDeactivationEvent;
+
 /**
  *
  * @author Martin Kouba
@@ -42,8 +50,14 @@ class ContextImpl implements Context {
     private final BeanManager beanManager;
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
+    // The map may be attached to other threads as well, see ContextSnapshot
     private final ThreadLocal<Map<Contextual<?>, ContextualInstance<?>>> currentContext = new ThreadLocal<>();
 
+    // Observer methods may only be resolved once the container is initialized, i.e. not before the context is activated
+    private volatile LifecycleEvent initialized;
+
+    private volatile LifecycleEvent destroyed;
+
     ContextImpl(Class<? extends Annotation> scope, BeanManager beanManager) {
         this.scope = scope;
         this.beanManager = beanManager;
@@ -66,8 +80,14 @@ class ContextImpl implements Context {
 
         if (instance == null && creationalContext != null) {
             // Bean instance does not exist - create one if we have CreationalContext
-            instance = new ContextualInstance<T>(contextual.create(creationalContext), creationalContext, contextual);
-            ctx.put(contextual, instance);
+            // The creation may recursively create other instances in this context so computeIfAbsent() cannot be used
+            synchronized (ctx) {
+                instance = (ContextualInstance<T>) ctx.get(contextual);
+                if (instance == null) {
+                    instance = new ContextualInstance<T>(contextual.create(creationalContext), creationalContext, contextual);
+                    ctx.put(contextual, instance);
+                }
+            }
         }
         return instance != null ? instance.get() : null;
     }
@@ -89,8 +109,11 @@ class ContextImpl implements Context {
     }
 
     public void activate() {
-        currentContext.set(new HashMap<Contextual<?>, ContextualInstance<?>>());
-        beanManager.getEvent().select(Initialized.Literal.of(scope)).fire(new Object());
+        ContextActivationEvent event = new ContextActivationEvent();
+        event.begin();
+        currentContext.set(new ConcurrentHashMap<Contextual<?>, ContextualInstance<?>>());
+        fireInitialized();
+        commit(event);
     }
 
     public void deactivate() {
@@ -98,16 +121,177 @@ class ContextImpl implements Context {
         if (ctx == null) {
             return;
         }
+        ContextDeactivationEvent event = new ContextDeactivationEvent();
+        event.begin();
+        int destroyedCount = 0;
         for (ContextualInstance<?> instance : ctx.values()) {
+            if (instance.isRetained()) {
+                // owned by a ContextsSnapshot
+                continue;
+            }
             try {
                 instance.destroy();
+                destroyedCount++;
             } catch (Exception e) {
                 LOGGER.warning("Unable to destroy instance" + instance.get() + " for bean: " + instance.getContextual());
             }
         }
         ctx.clear();
         currentContext.remove();
-        beanManager.getEvent().select(Destroyed.Literal.of(scope)).fire(new Object());
+        fireDestroyed();
+        commit(event, destroyedCount);
+    }
+
+    /**
+     *
+     * @return {@code true} if the context is active for a single thread, {@code false} if it's shared by all threads
+     */
+    boolean isThreadBound() {
+        return true;
+    }
+
+    void fireInitialized() {
+        LifecycleEvent event = initialized;
+        if (event == null) {
+            event = new LifecycleEvent(beanManager, Initialized.Literal.of(scope));
+            initialized = event;
+        }
+        event.fire();
+    }
+
+    void fireDestroyed() {
+        LifecycleEvent event = destroyed;
+        if (event == null) {
+            event = new LifecycleEvent(beanManager, Destroyed.Literal.of(scope));
+            destroyed = event;
+        }
+        event.fire();
+    }
+
+    void commit(ContextActivationEvent event) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.describeCurrentTest();
+            event.containerId = BeanManagerProxy.unwrap(beanManager).getContextId();
+            event.scope = scope.getName();
+            event.commit();
+        }
+    }
+
+    void commit(ContextDeactivationEvent event, int destroyedCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.describeCurrentTest();
+            event.containerId = BeanManagerProxy.unwrap(beanManager).getContextId();
+            event.scope = scope.getName();
+            event.beanCount = destroyedCount;
+            event.commit();
+        }
+    }
+
+    /**
+     *
+     * @return the instances of the context active for the current thread or {@code null} if the context is not active
+     */
+    Map<Contextual<?>, ContextualInstance<?>> capture() {
+        return currentContext.get();
+    }
+
+    /**
+     * Makes the given instances the context of the current thread. No lifecycle events are fired as the context is still owned
+     * by the thread it was activated on.
+     *
+     * @param ctx the instances obtained via {@link #capture()}, {@code null} makes the context inactive
+     * @return the previous instances of the current thread, may be {@code null}
+     */
+    Map<Contextual<?>, ContextualInstance<?>> attach(Map<Contextual<?>, ContextualInstance<?>> ctx) {
+        Map<Contextual<?>, ContextualInstance<?>> previous = currentContext.get();
+        if (ctx == null) {
+            currentContext.remove();
+        } else {
+            currentContext.set(ctx);
+        }
+        return previous;
+    }
+
+    /**
+     * The returned instances are retained, i.e. they are not destroyed when the context is deactivated.
+     *
+     * @return the instances of the context active for the current thread, empty if the context is not active
+     * @see ContextsSnapshot
+     */
+    Map<Contextual<?>, ContextualInstance<?>> snapshot() {
+        Map<Contextual<?>, ContextualInstance<?>> ctx = currentContext.get();
+        if (ctx == null) {
+            return Collections.emptyMap();
+        }
+        Map<Contextual<?>, ContextualInstance<?>> snapshot = new HashMap<>(ctx);
+        for (ContextualInstance<?> instance : snapshot.values()) {
+            instance.retain();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Puts the given instances into the context active for the current thread. An instance already present for the same
+     * contextual is destroyed. No lifecycle events are fired as the context is already active.
+     *
+     * @param snapshot the instances obtained via {@link #snapshot()}
+     * @param copyStrategy the strategy used to copy the instances, {@code null} if the instances should be shared
+     */
+    void restore(Map<Contextual<?>, ContextualInstance<?>> snapshot, UnaryOperator<Object> copyStrategy) {
+        Map<Contextual<?>, ContextualInstance<?>> ctx = currentContext.get();
+        if (ctx == null) {
+            throw new ContextNotActiveException();
+        }
+        for (ContextualInstance<?> instance : snapshot.values()) {
+            ContextualInstance<?> restored = restoredInstance(instance, copyStrategy);
+            ContextualInstance<?> previous = ctx.put(restored.getContextual(), restored);
+            if (previous != null && previous != restored && !previous.isRetained()) {
+                destroyQuietly(previous);
+            }
+        }
+    }
+
+    <T> ContextualInstance<T> restoredInstance(ContextualInstance<T> instance, UnaryOperator<Object> copyStrategy) {
+        if (copyStrategy == null) {
+            return instance;
+        }
+        @SuppressWarnings("unchecked")
+        T copy = (T) copyStrategy.apply(instance.get());
+        // the copy is a new instance of this context and is destroyed along with the context
+        return new ContextualInstance<>(copy, beanManager.createCreationalContext(instance.getContextual()),
+                instance.getContextual());
+    }
+
+    static void destroyQuietly(ContextualInstance<?> instance) {
+        try {
+            instance.destroy();
+        } catch (Exception e) {
+            LOGGER.warning("Unable to destroy instance " + instance.get() + " for bean: " + instance.getContextual());
+        }
+    }
+
+    /**
+     * A lifecycle event of this context. The set of observer methods cannot change once the container is initialized so the
+     * event is only fired if there is an observer at all.
+     */
+    static final class LifecycleEvent {
+
+        // null if there is no observer
+        private final Event<Object> event;
+
+        LifecycleEvent(BeanManager beanManager, Annotation qualifier) {
+            this.event = beanManager.resolveObserverMethods(new Object(), qualifier).isEmpty() ? null
+                    : beanManager.getEvent().select(qualifier);
+        }
+
+        void fire() {
+            if (event != null) {
+                event.fire(new Object());
+            }
+        }
+
     }
 
     /**
@@ -125,6 +309,8 @@ class ContextImpl implements Context {
 
         private final Contextual<T> contextual;
 
+        private volatile boolean retained;
+
         /**
          *
          * @param instance
@@ -149,6 +335,14 @@ class ContextImpl implements Context {
             contextual.destroy(value, creationalContext);
         }
 
+        void retain() {
+            retained = true;
+        }
+
+        boolean isRetained() {
+            return retained;
+        }
+
     }
 
 }
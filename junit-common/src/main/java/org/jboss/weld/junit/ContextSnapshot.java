@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import jakarta.enterprise.context.spi.Contextual;
+
+import org.jboss.weld.junit.ContextImpl.ContextualInstance;
+
+/**
+ * The instances of the custom contexts (see {@link AbstractWeldInitiator.AbstractBuilder#activate(Class...)}) captured on
+ * the thread which submits a task. The task is executed with the very same context instances, i.e. a
+ * {@link jakarta.enterprise.context.RequestScoped} bean used by the task is the one used by the submitting thread. The
+ * previous contexts of the executing thread are restored once the task completes.
+ * <p>
+ * The captured contexts are not activated again, they remain owned by the thread which activated them. If the test finishes
+ * before a task, the task will observe destroyed instances.
+ * </p>
+ */
+final class ContextSnapshot {
+
+    private static final ContextSnapshot EMPTY = new ContextSnapshot(null, null);
+
+    private final WeldCDIExtension extension;
+
+    private final List<Map<Contextual<?>, ContextualInstance<?>>> contexts;
+
+    private ContextSnapshot(WeldCDIExtension extension, List<Map<Contextual<?>, ContextualInstance<?>>> contexts) {
+        this.extension = extension;
+        this.contexts = contexts;
+    }
+
+    /**
+     *
+     * @param extension the extension registered in the running container, may be {@code null}
+     * @return the snapshot of the contexts of the current thread
+     */
+    static ContextSnapshot capture(WeldCDIExtension extension) {
+        return extension != null ? new ContextSnapshot(extension, extension.captureContexts()) : EMPTY;
+    }
+
+    Runnable wrap(Runnable task) {
+        if (extension == null) {
+            return task;
+        }
+        return () -> {
+            List<Map<Contextual<?>, ContextualInstance<?>>> previous = extension.attachContexts(contexts);
+            try {
+                task.run();
+            } finally {
+                extension.attachContexts(previous);
+            }
+        };
+    }
+
+    <V> Callable<V> wrap(Callable<V> task) {
+        if (extension == null) {
+            return task;
+        }
+        return () -> {
+            List<Map<Contextual<?>, ContextualInstance<?>>> previous = extension.attachContexts(contexts);
+            try {
+                return task.call();
+            } finally {
+                extension.attachContexts(previous);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+
+import jakarta.enterprise.context.spi.Contextual;
+
+import org.jboss.weld.junit.ContextImpl.ContextualInstance;
+
+/**
+ * The bean instances of the custom contexts (see {@link AbstractWeldInitiator.AbstractBuilder#activate(Class...)}) taken via
+ * {@link AbstractWeldInitiator#snapshotContexts()}. The instances can be restored in a later test which uses the same
+ * container (e.g. with the per class lifecycle, soft reset or a pooled container) instead of creating them again.
+ * <p>
+ * The instances are owned by the snapshot, i.e. they are not destroyed when the contexts are deactivated. Once the snapshot is
+ * no longer needed, {@link #close()} must be called to destroy them. Instances copied by a copy strategy are owned by the
+ * context they were restored to.
+ * </p>
+ */
+public final class ContextsSnapshot implements AutoCloseable {
+
+    private final WeldCDIExtension extension;
+
+    private final List<Map<Contextual<?>, ContextualInstance<?>>> contexts;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    ContextsSnapshot(WeldCDIExtension extension, List<Map<Contextual<?>, ContextualInstance<?>>> contexts) {
+        this.extension = extension;
+        this.contexts = contexts;
+    }
+
+    void restoreTo(WeldCDIExtension extension, UnaryOperator<Object> copyStrategy) {
+        if (closed.get()) {
+            throw new IllegalStateException("The snapshot is closed");
+        }
+        if (this.extension != extension) {
+            throw new IllegalStateException("The snapshot was taken in a different container");
+        }
+        extension.restoreContexts(contexts, copyStrategy);
+    }
+
+    /**
+     * Destroys the instances of the snapshot. The container the snapshot was taken in must be still running.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            for (Map<Contextual<?>, ContextualInstance<?>> instances : contexts) {
+                for (ContextualInstance<?> instance : instances.values()) {
+                    ContextImpl.destroyQuietly(instance);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A canonical description of a deployment used as a key of the {@link WeldContainerPool}.
+ * <p>
+ * The fingerprint consists of a sorted textual part (bean classes, scopes, ...) and a list of objects which are compared by
+ * identity (mock beans, resources, factories). Objects such as {@link MockBean} carry callbacks which may capture test
+ * instance state and so two deployments are only considered equal if they share the very same instances, regardless of the
+ * order in which the instances were registered.
+ * </p>
+ */
+final class DeploymentFingerprint {
+
+    private final List<String> parts;
+
+    private final List<Object> identities;
+
+    private final int hashCode;
+
+    private DeploymentFingerprint(List<String> parts, List<Object> identities) {
+        this.parts = parts;
+        this.identities = identities;
+        int result = parts.hashCode();
+        for (Object identity : identities) {
+            // order-independent
+            result += System.identityHashCode(identity);
+        }
+        this.hashCode = result;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DeploymentFingerprint)) {
+            return false;
+        }
+        DeploymentFingerprint other = (DeploymentFingerprint) obj;
+        if (hashCode != other.hashCode || !parts.equals(other.parts) || identities.size() != other.identities.size()) {
+            return false;
+        }
+        Map<Object, Integer> counts = new IdentityHashMap<>();
+        for (Object identity : identities) {
+            counts.merge(identity, 1, Integer::sum);
+        }
+        for (Object identity : other.identities) {
+            Integer count = counts.get(identity);
+            if (count == null) {
+                return false;
+            }
+            if (count == 1) {
+                counts.remove(identity);
+            } else {
+                counts.put(identity, count - 1);
+            }
+        }
+        return counts.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return parts.toString();
+    }
+
+    static final class Builder {
+
+        private final List<String> parts = new ArrayList<>();
+
+        private final List<Object> identities = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        Builder add(String kind, String value) {
+            parts.add(kind + ":" + value);
+            return this;
+        }
+
+        Builder addIdentity(String kind, Object identity) {
+            if (identity != null) {
+                parts.add(kind + ":" + identity.getClass().getName() + "@" + System.identityHashCode(identity));
+                identities.add(identity);
+            }
+            return this;
+        }
+
+        DeploymentFingerprint build() {
+            // Sort the textual part so that the order of configuration calls does not matter; the identities are kept in the
+            // registration order since they are compared regardless of the order
+            List<String> sortedParts = new ArrayList<>(parts);
+            Collections.sort(sortedParts);
+            return new DeploymentFingerprint(Collections.unmodifiableList(sortedParts),
+                    Collections.unmodifiableList(new ArrayList<>(identities)));
+        }
+
+    }
+
+}
@@ -0,0 +1,358 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.weld.junit.MockInterceptor.InterceptionCallback;
+
+/**
+ * Records the invocations intercepted by a {@link MockInterceptor} so that the call sequences can be asserted later on:
+ *
+ * <pre>{@code
+ * InvocationRecorder recorder = new InvocationRecorder(1024);
+ *
+ * WeldInitiator.from(Foo.class).addBeans(MockInterceptor.withBindings(FooBinding.Literal.INSTANCE).aroundInvoke(recorder))
+ *         .build();
+ *
+ * recorder.assertSequence("login", "ping", "logout");
+ * }</pre>
+ * <p>
+ * The invocations are stored in a ring buffer preallocated with the given capacity, i.e. only the most recent invocations are
+ * retained. The cost of an intercepted call is constant and nothing is allocated unless the arguments are captured. The arguments
+ * are captured by reference, they are not copied.
+ * </p>
+ * <p>
+ * Recording does not block unless more invocations than the capacity are recorded concurrently. In that case the invocations
+ * mapped to the same slot of the ring buffer are written one after another, i.e. an invocation waits until the older one is
+ * written completely. An invocation is not recorded at all if a more recent invocation already claimed its slot, it would be
+ * overwritten immediately anyway. It is still included in {@link #getCount()}.
+ * </p>
+ * <p>
+ * An invocation is recorded before it proceeds, so the recorded order is the order in which the invocations started. The
+ * queries return a consistent snapshot of the completely recorded invocations, an invocation which is being overwritten
+ * concurrently is skipped.
+ * </p>
+ */
+public class InvocationRecorder implements InterceptionCallback {
+
+    private final boolean captureArguments;
+
+    private final int mask;
+
+    private final AtomicLong next = new AtomicLong();
+
+    // the sequence number + 1 of the invocation stored in a slot, 0 if the slot is empty, or the negated sequence number + 1 of
+    // the invocation which is being written
+    private final AtomicLongArray published;
+
+    private final Bean<?>[] beans;
+
+    private final Method[] methods;
+
+    private final Object[][] arguments;
+
+    private final Thread[] threads;
+
+    private final long[] nanoTimes;
+
+    // the invocations recorded before are ignored, see clear()
+    private volatile long start;
+
+    /**
+     *
+     * @param capacity the maximum number of retained invocations, rounded up to the next power of two
+     */
+    public InvocationRecorder(int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     *
+     * @param capacity the maximum number of retained invocations, rounded up to the next power of two
+     * @param captureArguments if set to {@code true} the references of the invocation arguments are recorded as well
+     */
+    public InvocationRecorder(int capacity, boolean captureArguments) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.captureArguments = captureArguments;
+        this.mask = size - 1;
+        this.published = new AtomicLongArray(size);
+        this.beans = new Bean<?>[size];
+        this.methods = new Method[size];
+        this.arguments = captureArguments ? new Object[size][] : null;
+        this.threads = new Thread[size];
+        this.nanoTimes = new long[size];
+    }
+
+    @Override
+    public Object invoke(InvocationContext invocationContext, Bean<?> interceptedBean) throws Exception {
+        record(interceptedBean, invocationContext.getMethod(), captureArguments ? invocationContext.getParameters() : null);
+        return invocationContext.proceed();
+    }
+
+    /**
+     * Records an invocation of the given method.
+     *
+     * @param bean the intercepted bean, may be {@code null}
+     * @param method the invoked method
+     * @param args the arguments, ignored unless the arguments are captured
+     */
+    public void record(Bean<?> bean, Method method, Object[] args) {
+        long sequence = next.getAndIncrement();
+        int slot = (int) (sequence & mask);
+        if (!claim(slot, sequence)) {
+            return;
+        }
+        VarHandle.storeStoreFence();
+        beans[slot] = bean;
+        methods[slot] = method;
+        if (captureArguments) {
+            arguments[slot] = args;
+        }
+        threads[slot] = Thread.currentThread();
+        nanoTimes[slot] = System.nanoTime();
+        published.lazySet(slot, sequence + 1);
+    }
+
+    /**
+     * Marks the given slot as being written by the given invocation so that neither readers nor other writers access the
+     * partially overwritten invocation.
+     *
+     * @return {@code true} if the slot was claimed, {@code false} if it was claimed by a more recent invocation
+     */
+    private boolean claim(int slot, long sequence) {
+        long claimed = -(sequence + 1);
+        for (;;) {
+            long current = published.get(slot);
+            if (current > sequence || current < claimed) {
+                return false;
+            }
+            if (current >= 0) {
+                if (published.compareAndSet(slot, current, claimed)) {
+                    return true;
+                }
+            } else {
+                // an older invocation is being written
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the number of invocations recorded since the last {@link #clear()}, including those no longer retained
+     */
+    public long getCount() {
+        return next.get() - start;
+    }
+
+    /**
+     *
+     * @return the maximum number of retained invocations
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Forgets all invocations recorded so far.
+     */
+    public void clear() {
+        start = next.get();
+    }
+
+    /**
+     *
+     * @return the retained invocations, ordered by sequence number
+     */
+    public List<Invocation> getInvocations() {
+        long end = next.get();
+        long first = Math.max(start, end - getCapacity());
+        List<Invocation> invocations = new ArrayList<>((int) (end - first));
+        for (long sequence = first; sequence < end; sequence++) {
+            Invocation invocation = read(sequence);
+            if (invocation != null) {
+                invocations.add(invocation);
+            }
+        }
+        return invocations;
+    }
+
+    /**
+     *
+     * @param predicate
+     * @return the retained invocations matching the given predicate, ordered by sequence number
+     */
+    public List<Invocation> getInvocations(Predicate<Invocation> predicate) {
+        List<Invocation> invocations = getInvocations();
+        invocations.removeIf(predicate.negate());
+        return invocations;
+    }
+
+    /**
+     *
+     * @return the names of the methods of the retained invocations, ordered by sequence number
+     */
+    public List<String> getMethodNames() {
+        List<Invocation> invocations = getInvocations();
+        List<String> names = new ArrayList<>(invocations.size());
+        for (Invocation invocation : invocations) {
+            names.add(invocation.getMethod().getName());
+        }
+        return names;
+    }
+
+    /**
+     * Asserts that the methods of the retained invocations have exactly the given names, in the given order.
+     *
+     * @param methodNames
+     * @throws AssertionError if the recorded sequence does not match
+     */
+    public void assertSequence(String... methodNames) {
+        List<String> actual = getMethodNames();
+        if (!actual.equals(Arrays.asList(methodNames))) {
+            throw new AssertionError(
+                    "Expected invocation sequence " + Arrays.toString(methodNames) + " but was " + actual);
+        }
+    }
+
+    /**
+     * Asserts that the methods with the given names were invoked in the given order. Other invocations may occur in between.
+     *
+     * @param methodNames
+     * @throws AssertionError if the methods were not invoked in the given order
+     */
+    public void assertInOrder(String... methodNames) {
+        List<String> actual = getMethodNames();
+        int matched = 0;
+        for (String name : actual) {
+            if (matched < methodNames.length && name.equals(methodNames[matched])) {
+                matched++;
+            }
+        }
+        if (matched < methodNames.length) {
+            throw new AssertionError("Expected invocations " + Arrays.toString(methodNames) + " in order but was " + actual);
+        }
+    }
+
+    private Invocation read(long sequence) {
+        int slot = (int) (sequence & mask);
+        if (published.get(slot) != sequence + 1) {
+            return null;
+        }
+        Invocation invocation = new Invocation(sequence, beans[slot], methods[slot],
+                captureArguments ? arguments[slot] : null, threads[slot], nanoTimes[slot]);
+        // make sure the slot was not overwritten while being read
+        VarHandle.acquireFence();
+        return published.get(slot) == sequence + 1 ? invocation : null;
+    }
+
+    /**
+     * A recorded invocation.
+     */
+    public static final class Invocation {
+
+        private final long sequence;
+
+        private final Bean<?> bean;
+
+        private final Method method;
+
+        private final Object[] arguments;
+
+        private final Thread thread;
+
+        private final long nanoTime;
+
+        private Invocation(long sequence, Bean<?> bean, Method method, Object[] arguments, Thread thread, long nanoTime) {
+            this.sequence = sequence;
+            this.bean = bean;
+            this.method = method;
+            this.arguments = arguments;
+            this.thread = thread;
+            this.nanoTime = nanoTime;
+        }
+
+        /**
+         *
+         * @return the sequence number, starting with {@code 0}
+         */
+        public long getSequence() {
+            return sequence;
+        }
+
+        /**
+         *
+         * @return the intercepted bean, may be {@code null}
+         */
+        public Bean<?> getBean() {
+            return bean;
+        }
+
+        public Method getMethod() {
+            return method;
+        }
+
+        /**
+         *
+         * @return the arguments or an empty list if the arguments were not captured
+         */
+        public List<Object> getArguments() {
+            return arguments != null ? Collections.unmodifiableList(Arrays.asList(arguments)) : Collections.emptyList();
+        }
+
+        /**
+         *
+         * @return the thread which invoked the method
+         */
+        public Thread getThread() {
+            return thread;
+        }
+
+        /**
+         *
+         * @return the value of {@link System#nanoTime()} when the invocation was recorded
+         */
+        public long getNanoTime() {
+            return nanoTime;
+        }
+
+        @Override
+        public String toString() {
+            return "Invocation [sequence=" + sequence + ", method=" + method + ", thread=" + thread.getName() + "]";
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+/**
+ * The phases of the test lifecycle measured by {@link LifecycleTimings}.
+ */
+public enum LifecyclePhase {
+
+    /**
+     * Computing the deployment of the test, e.g. scanning the test class package or the <b>automagic</b> class scanning.
+     */
+    SCANNING,
+
+    /**
+     * Applying the enrichers of the default test environment.
+     */
+    ENRICHMENT,
+
+    /**
+     * Booting the container, i.e. {@link org.jboss.weld.environment.se.Weld#initialize()}.
+     */
+    BOOT,
+
+    /**
+     * Activating the custom contexts.
+     */
+    CONTEXT_ACTIVATION,
+
+    /**
+     * Injecting the test instance and other non-contextual instances.
+     */
+    INJECTION,
+
+    /**
+     * Deactivating the custom contexts, releasing the injected instances and shutting down or resetting the container.
+     */
+    SHUTDOWN;
+
+}
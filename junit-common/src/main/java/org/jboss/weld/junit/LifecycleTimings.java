@@ -0,0 +1,176 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The time spent in the {@link LifecyclePhase}s of a single test, e.g. a test method or a test class.
+ * <p>
+ * The timings are recorded by the thread they are bound to, see {@link #setCurrent(LifecycleTimings)}. Nothing is recorded
+ * if no timings are bound to the current thread, e.g. if a container is booted in the background.
+ * </p>
+ */
+public final class LifecycleTimings {
+
+    private static final ThreadLocal<LifecycleTimings> CURRENT = new ThreadLocal<>();
+
+    private final Map<LifecyclePhase, Long> nanos = new EnumMap<>(LifecyclePhase.class);
+
+    private int containers;
+
+    private int beanCount;
+
+    private Map<String, BeanStatistics> beanStatistics;
+
+    /**
+     *
+     * @return the timings bound to the current thread or {@code null}
+     */
+    public static LifecycleTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds the given timings to the current thread.
+     *
+     * @param timings the timings, {@code null} unbinds the current timings
+     */
+    public static void setCurrent(LifecycleTimings timings) {
+        if (timings == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(timings);
+        }
+    }
+
+    /**
+     * Adds the time elapsed since the given start to the timings bound to the current thread, if any.
+     *
+     * @param phase the measured phase
+     * @param startNanos the start as returned by {@link System#nanoTime()}
+     */
+    public static void record(LifecyclePhase phase, long startNanos) {
+        LifecycleTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.add(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     *
+     * @param phase
+     * @param nanos
+     */
+    public synchronized void add(LifecyclePhase phase, long nanos) {
+        this.nanos.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Records a booted container.
+     *
+     * @param beanCount the number of beans of the container
+     */
+    public synchronized void addContainer(int beanCount) {
+        containers++;
+        this.beanCount = Math.max(this.beanCount, beanCount);
+    }
+
+    /**
+     * Adds the statistics collected by the {@link BeanProfiler}. The statistics of the same bean are summed up.
+     *
+     * @param statistics
+     */
+    public synchronized void addBeanStatistics(Collection<BeanStatistics> statistics) {
+        if (statistics.isEmpty()) {
+            return;
+        }
+        if (beanStatistics == null) {
+            beanStatistics = new HashMap<>();
+        }
+        for (BeanStatistics bean : statistics) {
+            beanStatistics.merge(bean.getBean(), bean, BeanStatistics::merge);
+        }
+    }
+
+    /**
+     *
+     * @return the statistics collected by the {@link BeanProfiler}, ordered by the creation time, the slowest bean first
+     */
+    public synchronized List<BeanStatistics> getBeanStatistics() {
+        if (beanStatistics == null) {
+            return Collections.emptyList();
+        }
+        List<BeanStatistics> result = new ArrayList<>(beanStatistics.values());
+        result.sort(Comparator.comparingLong(BeanStatistics::getCreationNanos).reversed());
+        return result;
+    }
+
+    /**
+     *
+     * @return the number of booted containers, containers leased from a pool are not included
+     */
+    public synchronized int getContainers() {
+        return containers;
+    }
+
+    /**
+     *
+     * @return the number of beans of the largest booted container
+     */
+    public synchronized int getBeanCount() {
+        return beanCount;
+    }
+
+    /**
+     *
+     * @param phase
+     * @return the time spent in the given phase in nanoseconds, {@code 0} if the phase was not recorded
+     */
+    public synchronized long getNanos(LifecyclePhase phase) {
+        return nanos.getOrDefault(phase, 0L);
+    }
+
+    /**
+     *
+     * @return the time spent in the recorded phases in nanoseconds, ordered by phase
+     */
+    public synchronized Map<LifecyclePhase, Long> getNanos() {
+        return nanos.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new EnumMap<>(nanos));
+    }
+
+    /**
+     *
+     * @return {@code true} if no phase was recorded, {@code false} otherwise
+     */
+    public synchronized boolean isEmpty() {
+        return nanos.isEmpty();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "LifecycleTimings [containers=" + containers + ", beanCount=" + beanCount + ", nanos=" + nanos + "]";
+    }
+
+}
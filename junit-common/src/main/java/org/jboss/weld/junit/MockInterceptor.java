@@ -18,7 +18,9 @@ package org.jboss.weld.junit;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
@@ -34,6 +36,7 @@ import jakarta.enterprise.inject.spi.InterceptionType;
 import jakarta.enterprise.inject.spi.Interceptor;
 import jakarta.interceptor.InvocationContext;
 
+import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bean.builtin.BeanManagerProxy;
 import org.jboss.weld.junit.MockInterceptor.MockInterceptorInstance;
 import org.jboss.weld.util.bean.SerializableForwardingBean;
@@ -69,6 +72,15 @@ public class MockInterceptor implements Interceptor<MockInterceptorInstance> {
         return new Builder().bindings(interceptorBindings);
     }
 
+    private static final ClassValue<CreationalContextAccessors> ACCESSORS = new ClassValue<CreationalContextAccessors>() {
+
+        @Override
+        protected CreationalContextAccessors computeValue(Class<?> type) {
+            return CreationalContextAccessors.of(type);
+        }
+
+    };
+
     private final Class<?> beanClass;
 
     private final InterceptionType type;
@@ -109,8 +121,8 @@ public class MockInterceptor implements Interceptor<MockInterceptorInstance> {
 
     @Override
     public MockInterceptorInstance create(CreationalContext<MockInterceptorInstance> creationalContext) {
-        return new MockInterceptorInstance(getInterceptedBean(creationalContext),
-                BeanManagerProxy.unwrap(CDI.current().getBeanManager()).getContextId());
+        Bean<?> interceptedBean = getInterceptedBean(creationalContext);
+        return new MockInterceptorInstance(interceptedBean, interceptedBean != null ? getContextId(interceptedBean) : null);
     }
 
     @Override
@@ -163,34 +175,80 @@ public class MockInterceptor implements Interceptor<MockInterceptorInstance> {
     }
 
     private Bean<?> getInterceptedBean(CreationalContext<MockInterceptorInstance> ctx) {
-        if (!ctx.getClass().getName().startsWith("org.jboss.weld")) {
+        CreationalContextAccessors accessors = ACCESSORS.get(ctx.getClass());
+        if (accessors == CreationalContextAccessors.NONE) {
             return null;
         }
-        Bean<?> interceptedBean = null;
-        try {
-            // Note that we need to support both 2.x and 3.x
-            Class<?> ctxImplClazz;
-            if (ctx.getClass().getName().startsWith("org.jboss.weld.contexts")) {
-                // 3.x
-                ctxImplClazz = MockInterceptor.class.getClassLoader()
-                        .loadClass("org.jboss.weld.contexts.CreationalContextImpl");
-            } else {
-                // 2.x
-                ctxImplClazz = MockInterceptor.class.getClassLoader().loadClass("org.jboss.weld.context.CreationalContextImpl");
+        Object parentContext = accessors.getParentCreationalContext(ctx);
+        if (parentContext != null) {
+            Contextual<?> interceptedContextual = ACCESSORS.get(parentContext.getClass()).getContextual(parentContext);
+            if (interceptedContextual instanceof Bean<?>) {
+                return (Bean<?>) interceptedContextual;
             }
-            Object parentContext = ctxImplClazz.getMethod("getParentCreationalContext").invoke(ctx);
-            if (parentContext != null) {
-                Contextual<?> interceptedContextual = (Contextual<?>) ctxImplClazz.getMethod("getContextual")
-                        .invoke(parentContext);
-                if (interceptedContextual instanceof Bean<?>) {
-                    interceptedBean = (Bean<?>) interceptedContextual;
-                }
+        }
+        return null;
+    }
+
+    private static String getContextId(Bean<?> interceptedBean) {
+        if (interceptedBean instanceof RIBean) {
+            // the bean manager of the container the intercepted bean belongs to
+            return ((RIBean<?>) interceptedBean).getBeanManager().getContextId();
+        }
+        return BeanManagerProxy.unwrap(CDI.current().getBeanManager()).getContextId();
+    }
+
+    /**
+     * The accessors of the Weld {@code CreationalContextImpl}, resolved once per implementation class. We use the
+     * implementation class of the given context so that both 2.x ({@code org.jboss.weld.context}) and 3.x
+     * ({@code org.jboss.weld.contexts}) are supported.
+     */
+    private static final class CreationalContextAccessors {
+
+        private static final CreationalContextAccessors NONE = new CreationalContextAccessors(null, null);
+
+        private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+        private final MethodHandle getParentCreationalContext;
+
+        private final MethodHandle getContextual;
+
+        private CreationalContextAccessors(MethodHandle getParentCreationalContext, MethodHandle getContextual) {
+            this.getParentCreationalContext = getParentCreationalContext;
+            this.getContextual = getContextual;
+        }
+
+        private static CreationalContextAccessors of(Class<?> ctxClass) {
+            if (!ctxClass.getName().startsWith("org.jboss.weld")) {
+                return NONE;
+            }
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                return new CreationalContextAccessors(
+                        lookup.unreflect(ctxClass.getMethod("getParentCreationalContext")).asType(GETTER),
+                        lookup.unreflect(ctxClass.getMethod("getContextual")).asType(GETTER));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private Object getParentCreationalContext(Object ctx) {
+            return invoke(getParentCreationalContext, ctx);
+        }
+
+        private Contextual<?> getContextual(Object ctx) {
+            return this == NONE ? null : (Contextual<?>) invoke(getContextual, ctx);
+        }
+
+        private static Object invoke(MethodHandle getter, Object ctx) {
+            try {
+                return (Object) getter.invokeExact(ctx);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
             }
-        } catch (ClassNotFoundException | IllegalAccessException | IllegalArgumentException | NoSuchMethodException
-                | SecurityException | InvocationTargetException e) {
-            throw new IllegalStateException(e);
         }
-        return interceptedBean;
+
     }
 
     public static class MockInterceptorInstance implements Serializable {
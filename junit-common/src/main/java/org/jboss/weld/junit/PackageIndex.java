@@ -0,0 +1,233 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.weld.environment.se.Weld;
+
+/**
+ * Resolves the classes of a package from an index instead of letting {@link Weld} scan the directory or jar of the package
+ * class for every container. The index is disabled by default and can be enabled via the {@value #ENABLED} system property.
+ * <p>
+ * For each class path root, i.e. a directory or a jar, the class names are read only once per JVM. A prebuilt Jandex index
+ * ({@value #JANDEX_INDEX}) is used if present and Jandex is on the class path, otherwise the root is enumerated. The classes
+ * are then added via {@link Weld#addBeanClasses(Class...)}. If the classes cannot be resolved, e.g. because a stale index
+ * lists a class which does not exist, {@link Weld#addPackage(boolean, Class)} is used as usual.
+ * </p>
+ */
+public final class PackageIndex {
+
+    /**
+     * System property enabling the package index.
+     */
+    public static final String ENABLED = "org.jboss.weld.junit.packageIndex";
+
+    public static final String JANDEX_INDEX = "META-INF/jandex.idx";
+
+    private static final Logger LOGGER = Logger.getLogger(PackageIndex.class.getName());
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private static final boolean JANDEX_AVAILABLE = isJandexAvailable();
+
+    // Class path root URL -> names of all classes in the root
+    private static final ConcurrentMap<String, Optional<List<String>>> ROOTS = new ConcurrentHashMap<>();
+
+    private PackageIndex() {
+    }
+
+    /**
+     * Adds all classes from the package of the given class, see {@link Weld#addPackage(boolean, Class)}.
+     *
+     * @param weld the Weld instance to configure
+     * @param scanRecursively whether subpackages should be added as well
+     * @param packageClass a class from the package
+     * @return the given Weld instance
+     */
+    public static Weld addPackage(Weld weld, boolean scanRecursively, Class<?> packageClass) {
+        if (Boolean.getBoolean(ENABLED)) {
+            List<Class<?>> classes = findClasses(scanRecursively, packageClass);
+            if (classes != null) {
+                return weld.addBeanClasses(classes.toArray(new Class<?>[0]));
+            }
+        }
+        return weld.addPackage(scanRecursively, packageClass);
+    }
+
+    private static List<Class<?>> findClasses(boolean scanRecursively, Class<?> packageClass) {
+        ClassLoader classLoader = packageClass.getClassLoader() != null ? packageClass.getClassLoader()
+                : ClassLoader.getSystemClassLoader();
+        // The same resource Weld uses to find the directory or jar to scan
+        String resource = packageClass.getName().replace('.', '/') + CLASS_FILE_SUFFIX;
+        URL url = classLoader.getResource(resource);
+        if (url == null || !url.toExternalForm().endsWith(resource)) {
+            return null;
+        }
+        String root = url.toExternalForm().substring(0, url.toExternalForm().length() - resource.length());
+        List<String> names = ROOTS.computeIfAbsent(root, key -> Optional.ofNullable(readRoot(key))).orElse(null);
+        if (names == null) {
+            return null;
+        }
+
+        String packageName = getPackageName(packageClass.getName());
+        List<Class<?>> classes = new ArrayList<>();
+        for (String name : names) {
+            String namePackage = getPackageName(name);
+            if (namePackage.equals(packageName)
+                    || (scanRecursively && (packageName.isEmpty() || namePackage.startsWith(packageName + ".")))) {
+                try {
+                    classes.add(Class.forName(name, false, classLoader));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    LOGGER.log(Level.FINE, "Unable to load indexed class " + name + ", scanning the package instead", e);
+                    return null;
+                }
+            }
+        }
+        return classes;
+    }
+
+    private static List<String> readRoot(String root) {
+        if (JANDEX_AVAILABLE) {
+            try {
+                List<String> names = Jandex.read(new URL(root + JANDEX_INDEX));
+                if (names != null) {
+                    return names;
+                }
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(Level.FINE, "Ignoring unreadable Jandex index in " + root, e);
+            }
+        }
+        try {
+            if (root.startsWith("file:")) {
+                return readDirectory(Path.of(new URI(root)));
+            }
+            if (root.startsWith("jar:") && root.endsWith("!/")) {
+                return readJar(new URL(root));
+            }
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Unable to index " + root, e);
+        }
+        return null;
+    }
+
+    private static List<String> readDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return Collections.unmodifiableList(files
+                    .filter(Files::isRegularFile)
+                    .map(file -> directory.relativize(file).toString().replace(directory.getFileSystem().getSeparator(), "/"))
+                    .map(PackageIndex::toClassName)
+                    .filter(name -> name != null)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    private static List<String> readJar(URL root) throws IOException {
+        URLConnection connection = root.openConnection();
+        if (!(connection instanceof JarURLConnection)) {
+            return null;
+        }
+        connection.setUseCaches(false);
+        List<String> names = new ArrayList<>();
+        try (JarFile jar = ((JarURLConnection) connection).getJarFile()) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                String name = toClassName(entries.nextElement().getName());
+                if (name != null) {
+                    names.add(name);
+                }
+            }
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    private static String toClassName(String path) {
+        if (!path.endsWith(CLASS_FILE_SUFFIX) || path.startsWith("META-INF/")) {
+            return null;
+        }
+        String name = path.substring(0, path.length() - CLASS_FILE_SUFFIX.length()).replace('/', '.');
+        return isBeanClassCandidate(name) ? name : null;
+    }
+
+    private static boolean isBeanClassCandidate(String name) {
+        return !name.endsWith("package-info") && !name.endsWith("module-info");
+    }
+
+    private static String getPackageName(String className) {
+        int lastDot = className.lastIndexOf('.');
+        return lastDot < 0 ? "" : className.substring(0, lastDot);
+    }
+
+    private static boolean isJandexAvailable() {
+        try {
+            Class.forName("org.jboss.jandex.IndexReader", false, PackageIndex.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    // Only loaded if Jandex is available
+    private static final class Jandex {
+
+        static List<String> read(URL index) throws IOException {
+            URLConnection connection = index.openConnection();
+            connection.setUseCaches(false);
+            Index read;
+            try (InputStream in = connection.getInputStream()) {
+                read = new IndexReader(in).read();
+            } catch (FileNotFoundException e) {
+                return null;
+            }
+            List<String> names = new ArrayList<>();
+            for (ClassInfo classInfo : read.getKnownClasses()) {
+                String name = classInfo.name().toString();
+                if (isBeanClassCandidate(name)) {
+                    names.add(name);
+                }
+            }
+            return Collections.unmodifiableList(names);
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Provides access to the <b>automagic</b> class scanning results computed at compile time by the
+ * {@code org.jboss.weld.junit.processor.ScanIndexProcessor} annotation processor (artifact
+ * {@code weld-junit-index-processor}).
+ * <p>
+ * The index is only used if the {@value #ENABLED} system property is set to {@code true}. It is only regenerated when the test
+ * class is recompiled and, unlike the {@link ClassScanningCache}, it cannot be validated against the classes it was computed
+ * from. If a dependency of a test class changes without the test class being recompiled, the index is stale.
+ * </p>
+ */
+public final class ScanIndex {
+
+    /**
+     * System property enabling the compile-time index.
+     */
+    public static final String ENABLED = "org.jboss.weld.junit.scanIndex";
+
+    public static final String LOCATION = "META-INF/weld-junit/scan-index/";
+
+    private static final Logger LOGGER = Logger.getLogger(ScanIndex.class.getName());
+
+    /**
+     * The version of the index format, must be kept in sync with {@code ScanIndexProcessor}.
+     */
+    public static final int VERSION = 1;
+
+    private ScanIndex() {
+    }
+
+    /**
+     *
+     * @param testClass the test class
+     * @param explicitInjection whether explicit parameter injection is required
+     * @return the indexed result or {@code null} if there is no valid index for the given test class
+     */
+    public static ScanResult find(Class<?> testClass, boolean explicitInjection) {
+        if (!Boolean.getBoolean(ENABLED)) {
+            return null;
+        }
+        ClassLoader classLoader = testClass.getClassLoader() != null ? testClass.getClassLoader()
+                : ClassLoader.getSystemClassLoader();
+        String resource = LOCATION + testClass.getName() + (explicitInjection ? ".explicit" : "") + ".scan";
+        try (InputStream in = classLoader.getResourceAsStream(resource)) {
+            if (in == null) {
+                return null;
+            }
+            List<String> lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().collect(Collectors.toList());
+            if (lines.size() < 3 || !lines.get(0).equals("version " + VERSION)
+                    || !lines.get(1).equals("test " + testClass.getName())
+                    || !lines.get(2).equals("explicitInjection " + explicitInjection)) {
+                LOGGER.fine("Ignoring incompatible scan index " + resource);
+                return null;
+            }
+            return ScanResult.readFrom(lines.subList(3, lines.size()));
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Unable to read scan index " + resource, e);
+            return null;
+        }
+    }
+
+}
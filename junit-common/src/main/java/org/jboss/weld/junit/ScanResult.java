@@ -0,0 +1,344 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.inject.spi.Extension;
+
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.environment.se.Weld;
+
+/**
+ * The result of the <b>automagic</b> class scanning, i.e. everything the scanning contributes to a {@link Weld} instance.
+ * <p>
+ * Classes are only referenced by name so that the result can be persisted and replayed later. The result is applied to
+ * {@link Weld} in a stable order: packages, bean classes, interceptors, decorators, alternatives, alternative stereotypes,
+ * extensions and finally the bean discovery mode.
+ * </p>
+ * <p>
+ * This class is not intended to be used directly by tests.
+ * </p>
+ *
+ * @see ClassScanningCache
+ */
+public final class ScanResult {
+
+    enum Entry {
+
+        PACKAGE("package"),
+        RECURSIVE_PACKAGE("recursivePackage"),
+        BEAN_CLASS("beanClass"),
+        INTERCEPTOR("interceptor"),
+        DECORATOR("decorator"),
+        ALTERNATIVE("alternative"),
+        ALTERNATIVE_STEREOTYPE("alternativeStereotype"),
+        EXTENSION("extension"),
+        EXCLUDED_BEAN_TYPE("excludedBeanType"),
+        EXCLUDED_BEAN_CLASS("excludedBeanClass"),
+        BEAN_DISCOVERY_MODE("beanDiscoveryMode");
+
+        private final String key;
+
+        Entry(String key) {
+            this.key = key;
+        }
+
+        static Entry of(String key) {
+            for (Entry entry : values()) {
+                if (entry.key.equals(key)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+    }
+
+    private final Map<Entry, Set<String>> entries;
+
+    private final Set<Class<?>> dependencies;
+
+    private ScanResult(Map<Entry, Set<String>> entries, Set<Class<?>> dependencies) {
+        this.entries = entries;
+        this.dependencies = dependencies;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Applies the result to the given {@link Weld} instance. Extensions are instantiated using their no-args constructor.
+     *
+     * @param weld the Weld instance to configure
+     * @param classLoader the class loader used to load the referenced classes
+     */
+    public void applyTo(Weld weld, ClassLoader classLoader) {
+        for (String name : get(Entry.PACKAGE)) {
+            PackageIndex.addPackage(weld, false, load(name, classLoader));
+        }
+        for (String name : get(Entry.RECURSIVE_PACKAGE)) {
+            PackageIndex.addPackage(weld, true, load(name, classLoader));
+        }
+        for (String name : get(Entry.BEAN_CLASS)) {
+            weld.addBeanClass(load(name, classLoader));
+        }
+        for (String name : get(Entry.INTERCEPTOR)) {
+            weld.addInterceptor(load(name, classLoader));
+        }
+        for (String name : get(Entry.DECORATOR)) {
+            weld.addDecorator(load(name, classLoader));
+        }
+        for (String name : get(Entry.ALTERNATIVE)) {
+            weld.addAlternative(load(name, classLoader));
+        }
+        for (String name : get(Entry.ALTERNATIVE_STEREOTYPE)) {
+            weld.addAlternativeStereotype(load(name, classLoader).asSubclass(Annotation.class));
+        }
+        for (String name : get(Entry.EXTENSION)) {
+            weld.addExtension(createExtension(load(name, classLoader).asSubclass(Extension.class)));
+        }
+        for (String mode : get(Entry.BEAN_DISCOVERY_MODE)) {
+            weld.setBeanDiscoveryMode(BeanDiscoveryMode.valueOf(mode));
+        }
+    }
+
+    /**
+     *
+     * @return the number of bean classes added to the deployment, not including the classes of the added packages
+     */
+    public int getBeanClassCount() {
+        return get(Entry.BEAN_CLASS).size();
+    }
+
+    /**
+     *
+     * @param classLoader the class loader used to load the referenced classes
+     * @return the types whose beans should be vetoed
+     */
+    public Set<Type> getExcludedBeanTypes(ClassLoader classLoader) {
+        Set<Type> types = new LinkedHashSet<>();
+        for (String name : get(Entry.EXCLUDED_BEAN_TYPE)) {
+            types.add(load(name, classLoader));
+        }
+        return types;
+    }
+
+    /**
+     *
+     * @param classLoader the class loader used to load the referenced classes
+     * @return the classes which should be vetoed
+     */
+    public Set<Class<?>> getExcludedBeanClasses(ClassLoader classLoader) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (String name : get(Entry.EXCLUDED_BEAN_CLASS)) {
+            classes.add(load(name, classLoader));
+        }
+        return classes;
+    }
+
+    /**
+     * The classes the result was computed from, i.e. all visited classes along with their superclasses, interfaces and
+     * annotation types. Always empty for a result which was read from its textual form.
+     *
+     * @return the classes the result depends on
+     */
+    public Set<Class<?>> getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Writes the textual form of the result, one {@code key value} pair per line.
+     *
+     * @param out
+     * @throws IOException
+     */
+    public void writeTo(Appendable out) throws IOException {
+        for (Map.Entry<Entry, Set<String>> entry : entries.entrySet()) {
+            for (String value : entry.getValue()) {
+                out.append(entry.getKey().key).append(' ').append(value).append('\n');
+            }
+        }
+    }
+
+    /**
+     * Reads the textual form of a result. Empty lines, comments starting with {@code #} and unknown keys are ignored.
+     *
+     * @param lines
+     * @return the result
+     * @see #writeTo(Appendable)
+     */
+    public static ScanResult readFrom(List<String> lines) {
+        Builder builder = builder();
+        for (String line : lines) {
+            int separator = line.indexOf(' ');
+            if (line.isEmpty() || line.startsWith("#") || separator < 0) {
+                continue;
+            }
+            Entry entry = Entry.of(line.substring(0, separator));
+            if (entry != null) {
+                builder.add(entry, line.substring(separator + 1).trim());
+            }
+        }
+        return builder.build();
+    }
+
+    private Set<String> get(Entry entry) {
+        return entries.getOrDefault(entry, Collections.emptySet());
+    }
+
+    private static Class<?> load(String name, ClassLoader classLoader) {
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to load class " + name, e);
+        }
+    }
+
+    private static Extension createExtension(Class<? extends Extension> clazz) {
+        try {
+            return clazz.getDeclaredConstructor().newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static final class Builder {
+
+        // keys are kept in the declaration order of Entry
+        private final Map<Entry, Set<String>> entries = new LinkedHashMap<>();
+
+        private final Set<Class<?>> dependencies = new LinkedHashSet<>();
+
+        private Builder() {
+            for (Entry entry : Entry.values()) {
+                entries.put(entry, new LinkedHashSet<>());
+            }
+        }
+
+        /**
+         * Records a class visited by the scanning. The class, its superclasses, interfaces and annotation types are
+         * considered dependencies of the result.
+         *
+         * @param clazz
+         * @return self
+         */
+        public Builder visit(Class<?> clazz) {
+            List<Class<?>> toProcess = new ArrayList<>();
+            toProcess.add(clazz);
+            while (!toProcess.isEmpty()) {
+                Class<?> current = toProcess.remove(toProcess.size() - 1);
+                while (current.isArray()) {
+                    current = current.getComponentType();
+                }
+                if (current.isPrimitive() || current.getName().startsWith("java") || current.getName().startsWith("sun")
+                        || !dependencies.add(current)) {
+                    continue;
+                }
+                if (current.getSuperclass() != null) {
+                    toProcess.add(current.getSuperclass());
+                }
+                Collections.addAll(toProcess, current.getInterfaces());
+                for (Annotation annotation : current.getDeclaredAnnotations()) {
+                    toProcess.add(annotation.annotationType());
+                }
+            }
+            return this;
+        }
+
+        public Builder addPackage(boolean recursively, Class<?> packageClass) {
+            return add(recursively ? Entry.RECURSIVE_PACKAGE : Entry.PACKAGE, packageClass.getName());
+        }
+
+        public Builder addBeanClass(Class<?> beanClass) {
+            return add(Entry.BEAN_CLASS, beanClass.getName());
+        }
+
+        public Builder addInterceptor(Class<?> interceptorClass) {
+            return add(Entry.INTERCEPTOR, interceptorClass.getName());
+        }
+
+        public Builder addDecorator(Class<?> decoratorClass) {
+            return add(Entry.DECORATOR, decoratorClass.getName());
+        }
+
+        public Builder addAlternative(Class<?> alternativeClass) {
+            return add(Entry.ALTERNATIVE, alternativeClass.getName());
+        }
+
+        public Builder addAlternativeStereotype(Class<? extends Annotation> alternativeStereotypeClass) {
+            return add(Entry.ALTERNATIVE_STEREOTYPE, alternativeStereotypeClass.getName());
+        }
+
+        public Builder addExtension(Class<? extends Extension> extensionClass) {
+            return add(Entry.EXTENSION, extensionClass.getName());
+        }
+
+        public Builder excludeBeanType(Class<?> beanType) {
+            return add(Entry.EXCLUDED_BEAN_TYPE, beanType.getName());
+        }
+
+        public Builder excludeBeanClass(Class<?> beanClass) {
+            return add(Entry.EXCLUDED_BEAN_CLASS, beanClass.getName());
+        }
+
+        /**
+         * The bean discovery mode can only be set once, subsequent invocations are ignored.
+         *
+         * @param mode
+         * @return self
+         */
+        public Builder setBeanDiscoveryMode(BeanDiscoveryMode mode) {
+            if (entries.get(Entry.BEAN_DISCOVERY_MODE).isEmpty()) {
+                add(Entry.BEAN_DISCOVERY_MODE, mode.name());
+            }
+            return this;
+        }
+
+        public boolean hasBeanDiscoveryMode() {
+            return !entries.get(Entry.BEAN_DISCOVERY_MODE).isEmpty();
+        }
+
+        public ScanResult build() {
+            Map<Entry, Set<String>> result = new LinkedHashMap<>();
+            for (Map.Entry<Entry, Set<String>> entry : entries.entrySet()) {
+                if (!entry.getValue().isEmpty()) {
+                    result.put(entry.getKey(), Collections.unmodifiableSet(new LinkedHashSet<>(entry.getValue())));
+                }
+            }
+            return new ScanResult(Collections.unmodifiableMap(result),
+                    Collections.unmodifiableSet(new LinkedHashSet<>(dependencies)));
+        }
+
+        Builder add(Entry entry, String value) {
+            entries.get(entry).add(value);
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,238 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.UnaryOperator;
+
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.junit.jfr.ContextActivationEvent;
+import org.jboss.weld.junit.jfr.ContextDeactivationEvent;
+
+/**
+ * A custom context shared by all threads, see {@link AbstractWeldInitiator.AbstractBuilder#activateShared(Class...)}.
+ * <p>
+ * There is no more than one instance per contextual type for all threads; if several threads request an instance at the
+ * same time, it's created exactly once and the other threads wait for it. The lookup of an existing instance does not lock.
+ * The instances are destroyed in the reverse order of their creation once the context is deactivated.
+ * </p>
+ */
+class SharedContextImpl extends ContextImpl {
+
+    // null if the context is not active
+    private volatile Instances current;
+
+    SharedContextImpl(Class<? extends Annotation> scope, BeanManager beanManager) {
+        super(scope, beanManager);
+    }
+
+    @Override
+    public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        Instances instances = current;
+        if (instances == null) {
+            throw new ContextNotActiveException();
+        }
+        SharedInstance<?> instance = instances.map.get(contextual);
+        if (instance == null) {
+            if (creationalContext == null) {
+                return null;
+            }
+            instance = instances.map.computeIfAbsent(contextual, key -> new SharedInstance<>());
+        }
+        @SuppressWarnings("unchecked")
+        SharedInstance<T> typed = (SharedInstance<T>) instance;
+        return typed.get(instances, contextual, creationalContext);
+    }
+
+    @Override
+    public boolean isActive() {
+        return current != null;
+    }
+
+    @Override
+    public void destroy(Contextual<?> contextual) {
+        Instances instances = current;
+        if (instances == null) {
+            return;
+        }
+        SharedInstance<?> instance = instances.map.remove(contextual);
+        if (instance != null && instances.created.remove(instance)) {
+            instance.destroy();
+        }
+    }
+
+    /**
+     * Activates the context for all threads unless it's already active.
+     */
+    @Override
+    public void activate() {
+        ContextActivationEvent event = new ContextActivationEvent();
+        event.begin();
+        synchronized (this) {
+            if (current != null) {
+                return;
+            }
+            current = new Instances();
+        }
+        fireInitialized();
+        commit(event);
+    }
+
+    @Override
+    public void deactivate() {
+        Instances instances;
+        synchronized (this) {
+            instances = current;
+            if (instances == null) {
+                return;
+            }
+            current = null;
+        }
+        ContextDeactivationEvent event = new ContextDeactivationEvent();
+        event.begin();
+        instances.active = false;
+        // the size of the deque is not a constant-time operation
+        int destroyedCount = event.isEnabled() ? instances.created.size() : 0;
+        instances.destroyAll();
+        instances.map.clear();
+        fireDestroyed();
+        commit(event, destroyedCount);
+    }
+
+    @Override
+    Map<Contextual<?>, ContextualInstance<?>> capture() {
+        // nothing to propagate, the context is visible to all threads
+        return null;
+    }
+
+    @Override
+    Map<Contextual<?>, ContextualInstance<?>> attach(Map<Contextual<?>, ContextualInstance<?>> ctx) {
+        return null;
+    }
+
+    @Override
+    boolean isThreadBound() {
+        return false;
+    }
+
+    @Override
+    Map<Contextual<?>, ContextualInstance<?>> snapshot() {
+        Instances instances = current;
+        if (instances == null) {
+            return Collections.emptyMap();
+        }
+        Map<Contextual<?>, ContextualInstance<?>> snapshot = new HashMap<>();
+        for (SharedInstance<?> holder : instances.map.values()) {
+            ContextualInstance<?> instance = holder.instance;
+            if (instance != null) {
+                instance.retain();
+                snapshot.put(instance.getContextual(), instance);
+            }
+        }
+        return snapshot;
+    }
+
+    @Override
+    void restore(Map<Contextual<?>, ContextualInstance<?>> snapshot, UnaryOperator<Object> copyStrategy) {
+        Instances instances = current;
+        if (instances == null) {
+            throw new ContextNotActiveException();
+        }
+        for (ContextualInstance<?> instance : snapshot.values()) {
+            SharedInstance<?> restored = new SharedInstance<>(restoredInstance(instance, copyStrategy));
+            SharedInstance<?> previous = instances.map.put(instance.getContextual(), restored);
+            instances.created(restored);
+            if (previous != null && instances.created.remove(previous)) {
+                previous.destroy();
+            }
+        }
+    }
+
+    private static final class Instances {
+
+        private final Map<Contextual<?>, SharedInstance<?>> map = new ConcurrentHashMap<>();
+
+        // the most recently created instance first
+        private final ConcurrentLinkedDeque<SharedInstance<?>> created = new ConcurrentLinkedDeque<>();
+
+        private volatile boolean active = true;
+
+        void created(SharedInstance<?> instance) {
+            created.addFirst(instance);
+            if (!active) {
+                // the context was deactivated while the instance was being created
+                destroyAll();
+            }
+        }
+
+        void destroyAll() {
+            SharedInstance<?> instance;
+            // each instance is polled by exactly one thread
+            while ((instance = created.pollFirst()) != null) {
+                instance.destroy();
+            }
+        }
+
+    }
+
+    private static final class SharedInstance<T> {
+
+        private volatile ContextualInstance<T> instance;
+
+        SharedInstance() {
+        }
+
+        SharedInstance(ContextualInstance<T> instance) {
+            this.instance = instance;
+        }
+
+        T get(Instances instances, Contextual<T> contextual, CreationalContext<T> creationalContext) {
+            ContextualInstance<T> result = instance;
+            if (result == null && creationalContext != null) {
+                // the creation may recursively create other instances in this context, each of them has its own lock
+                synchronized (this) {
+                    result = instance;
+                    if (result == null) {
+                        result = new ContextualInstance<>(contextual.create(creationalContext), creationalContext, contextual);
+                        instance = result;
+                        instances.created(this);
+                    }
+                }
+            }
+            return result != null ? result.get() : null;
+        }
+
+        void destroy() {
+            ContextualInstance<T> result = instance;
+            // a retained instance is owned by a ContextsSnapshot
+            if (result != null && !result.isRetained()) {
+                destroyQuietly(result);
+            }
+        }
+
+    }
+
+}
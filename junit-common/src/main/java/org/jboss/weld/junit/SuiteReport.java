@@ -0,0 +1,381 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Aggregates the {@link LifecycleTimings} of all tests executed in the JVM and writes a summary at the end of the test suite.
+ * <p>
+ * The report is enabled via the {@value #ENABLED} system property. The test framework integrations add the timings of each test
+ * and write the report once the test suite is finished. The summary consists of a JSON file and a human-readable text file
+ * written to the {@value #DIRECTORY} directory ({@value #DEFAULT_DIRECTORY} by default). It contains the number of booted
+ * containers, the percentiles of the time spent in each {@link LifecyclePhase} and the test classes with the slowest boot, the
+ * largest deployments and the largest total time. If the {@link BeanProfiler} is enabled, the beans with the largest creation
+ * time are listed as well.
+ * </p>
+ */
+public final class SuiteReport {
+
+    /**
+     * System property enabling the suite report.
+     */
+    public static final String ENABLED = "org.jboss.weld.junit.suiteReport";
+
+    /**
+     * System property specifying the directory the suite report is written to.
+     */
+    public static final String DIRECTORY = "org.jboss.weld.junit.suiteReportDirectory";
+
+    public static final String DEFAULT_DIRECTORY = "target/weld-testing-report";
+
+    static final String JSON_FILE = "weld-testing-report.json";
+
+    static final String TEXT_FILE = "weld-testing-report.txt";
+
+    private static final int TOP = 10;
+
+    private static final double[] PERCENTILES = { 50, 90, 99 };
+
+    private static final SuiteReport INSTANCE = new SuiteReport();
+
+    private final ConcurrentLinkedQueue<Entry> entries = new ConcurrentLinkedQueue<>();
+
+    private SuiteReport() {
+    }
+
+    /**
+     *
+     * @return {@code true} if the suite report is enabled, {@code false} otherwise
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED);
+    }
+
+    /**
+     *
+     * @return the report shared by all tests executed in the JVM
+     */
+    public static SuiteReport getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Adds the timings of a test.
+     *
+     * @param testClass the name of the test class
+     * @param test the name of the test method or feature, {@code null} if the timings belong to the whole test class
+     * @param timings the measured timings
+     */
+    public void add(String testClass, String test, LifecycleTimings timings) {
+        entries.add(new Entry(testClass, test, timings.getNanos(), timings.getContainers(), timings.getBeanCount(),
+                timings.getBeanStatistics()));
+    }
+
+    /**
+     * Writes the summary of all timings added so far to the directory specified via {@value #DIRECTORY}. An existing summary is
+     * overwritten.
+     *
+     * @throws IOException
+     */
+    public void write() throws IOException {
+        write(Paths.get(System.getProperty(DIRECTORY, DEFAULT_DIRECTORY)));
+    }
+
+    /**
+     * Writes the summary of all timings added so far to the given directory. An existing summary is overwritten.
+     *
+     * @param directory
+     * @throws IOException
+     */
+    public void write(Path directory) throws IOException {
+        Summary summary = new Summary(new ArrayList<>(entries));
+        Files.createDirectories(directory);
+        Files.write(directory.resolve(JSON_FILE), summary.toJson().getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve(TEXT_FILE), summary.toText().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class Entry {
+
+        private final String testClass;
+
+        private final String test;
+
+        private final Map<LifecyclePhase, Long> nanos;
+
+        private final int containers;
+
+        private final int beanCount;
+
+        private final List<BeanStatistics> beanStatistics;
+
+        private Entry(String testClass, String test, Map<LifecyclePhase, Long> nanos, int containers, int beanCount,
+                List<BeanStatistics> beanStatistics) {
+            this.testClass = testClass;
+            this.test = test;
+            this.nanos = nanos;
+            this.containers = containers;
+            this.beanCount = beanCount;
+            this.beanStatistics = beanStatistics;
+        }
+
+    }
+
+    private static final class TestClass {
+
+        private final String name;
+
+        private final Map<LifecyclePhase, Long> nanos = new EnumMap<>(LifecyclePhase.class);
+
+        private int tests;
+
+        private int containers;
+
+        private int beanCount;
+
+        private long totalNanos;
+
+        private TestClass(String name) {
+            this.name = name;
+        }
+
+        private void add(Entry entry) {
+            if (entry.test != null) {
+                tests++;
+            }
+            containers += entry.containers;
+            beanCount = Math.max(beanCount, entry.beanCount);
+            for (Map.Entry<LifecyclePhase, Long> phase : entry.nanos.entrySet()) {
+                nanos.merge(phase.getKey(), phase.getValue(), Long::sum);
+                totalNanos += phase.getValue();
+            }
+        }
+
+        private long getNanos(LifecyclePhase phase) {
+            return nanos.getOrDefault(phase, 0L);
+        }
+
+    }
+
+    private static final class Summary {
+
+        private final Map<LifecyclePhase, long[]> phases = new EnumMap<>(LifecyclePhase.class);
+
+        private final List<TestClass> testClasses;
+
+        private final List<BeanStatistics> slowestBeans;
+
+        private int containers;
+
+        private int tests;
+
+        private Summary(List<Entry> entries) {
+            Map<LifecyclePhase, List<Long>> values = new EnumMap<>(LifecyclePhase.class);
+            Map<String, TestClass> classes = new LinkedHashMap<>();
+            Map<String, BeanStatistics> beans = new HashMap<>();
+            for (Entry entry : entries) {
+                for (BeanStatistics bean : entry.beanStatistics) {
+                    beans.merge(bean.getBean(), bean, BeanStatistics::merge);
+                }
+                containers += entry.containers;
+                if (entry.test != null) {
+                    tests++;
+                }
+                for (Map.Entry<LifecyclePhase, Long> phase : entry.nanos.entrySet()) {
+                    values.computeIfAbsent(phase.getKey(), key -> new ArrayList<>()).add(phase.getValue());
+                }
+                classes.computeIfAbsent(entry.testClass, TestClass::new).add(entry);
+            }
+            for (Map.Entry<LifecyclePhase, List<Long>> phase : values.entrySet()) {
+                long[] sorted = phase.getValue().stream().mapToLong(Long::longValue).toArray();
+                Arrays.sort(sorted);
+                phases.put(phase.getKey(), sorted);
+            }
+            testClasses = new ArrayList<>(classes.values());
+            testClasses.sort(Comparator.comparingLong((TestClass testClass) -> testClass.totalNanos).reversed());
+            List<BeanStatistics> sortedBeans = new ArrayList<>(beans.values());
+            sortedBeans.sort(Comparator.comparingLong(BeanStatistics::getCreationNanos).reversed());
+            slowestBeans = sortedBeans.subList(0, Math.min(TOP, sortedBeans.size()));
+        }
+
+        private List<TestClass> top(ToLongFunction<TestClass> value) {
+            List<TestClass> result = new ArrayList<>(testClasses);
+            result.sort(Comparator.comparingLong(value).reversed());
+            return result.subList(0, Math.min(TOP, result.size()));
+        }
+
+        private String toJson() {
+            StringBuilder json = new StringBuilder();
+            json.append("{\n");
+            json.append("  \"containers\": ").append(containers).append(",\n");
+            json.append("  \"tests\": ").append(tests).append(",\n");
+            json.append("  \"phases\": {");
+            String separator = "\n";
+            for (Map.Entry<LifecyclePhase, long[]> phase : phases.entrySet()) {
+                long[] sorted = phase.getValue();
+                json.append(separator).append("    ").append(quote(key(phase.getKey()))).append(": { \"count\": ")
+                        .append(sorted.length).append(", \"totalNanos\": ").append(sum(sorted));
+                for (double percentile : PERCENTILES) {
+                    json.append(", \"p").append((int) percentile).append("Nanos\": ").append(percentile(sorted, percentile));
+                }
+                json.append(", \"maxNanos\": ").append(sorted[sorted.length - 1]).append(" }");
+                separator = ",\n";
+            }
+            json.append("\n  },\n");
+            appendJsonTop(json, "slowestBoot", top(testClass -> testClass.getNanos(LifecyclePhase.BOOT)),
+                    testClass -> testClass.getNanos(LifecyclePhase.BOOT));
+            appendJsonTop(json, "largestDeployments", top(testClass -> testClass.beanCount), testClass -> testClass.beanCount);
+            if (!slowestBeans.isEmpty()) {
+                json.append("  \"slowestBeans\": [");
+                separator = "\n";
+                for (BeanStatistics bean : slowestBeans) {
+                    json.append(separator).append("    { \"bean\": ").append(quote(bean.getBean()))
+                            .append(", \"creations\": ").append(bean.getCreations())
+                            .append(", \"creationNanos\": ").append(bean.getCreationNanos())
+                            .append(", \"destructions\": ").append(bean.getDestructions())
+                            .append(", \"destructionNanos\": ").append(bean.getDestructionNanos()).append(" }");
+                    separator = ",\n";
+                }
+                json.append("\n  ],\n");
+            }
+            json.append("  \"testClasses\": [");
+            separator = "\n";
+            for (TestClass testClass : testClasses) {
+                json.append(separator).append("    { \"testClass\": ").append(quote(testClass.name))
+                        .append(", \"tests\": ").append(testClass.tests)
+                        .append(", \"containers\": ").append(testClass.containers)
+                        .append(", \"beanCount\": ").append(testClass.beanCount)
+                        .append(", \"totalNanos\": ").append(testClass.totalNanos);
+                for (Map.Entry<LifecyclePhase, Long> phase : testClass.nanos.entrySet()) {
+                    json.append(", ").append(quote(key(phase.getKey()) + "Nanos")).append(": ").append(phase.getValue());
+                }
+                json.append(" }");
+                separator = ",\n";
+            }
+            json.append("\n  ]\n}\n");
+            return json.toString();
+        }
+
+        private static void appendJsonTop(StringBuilder json, String name, List<TestClass> top,
+                ToLongFunction<TestClass> value) {
+            json.append("  ").append(quote(name)).append(": [");
+            String separator = "\n";
+            for (TestClass testClass : top) {
+                json.append(separator).append("    { \"testClass\": ").append(quote(testClass.name)).append(", \"value\": ")
+                        .append(value.applyAsLong(testClass)).append(" }");
+                separator = ",\n";
+            }
+            json.append("\n  ],\n");
+        }
+
+        private String toText() {
+            StringBuilder text = new StringBuilder();
+            text.append("Weld testing report\n");
+            text.append("===================\n\n");
+            text.append("Containers booted: ").append(containers).append('\n');
+            text.append("Tests: ").append(tests).append('\n');
+            text.append("Test classes: ").append(testClasses.size()).append("\n\n");
+            text.append(String.format(Locale.ROOT, "%-20s %8s %12s %10s %10s %10s %10s%n", "Phase", "Count", "Total [ms]",
+                    "p50 [ms]", "p90 [ms]", "p99 [ms]", "Max [ms]"));
+            for (Map.Entry<LifecyclePhase, long[]> phase : phases.entrySet()) {
+                long[] sorted = phase.getValue();
+                text.append(String.format(Locale.ROOT, "%-20s %8d %12s %10s %10s %10s %10s%n", key(phase.getKey()),
+                        sorted.length, millis(sum(sorted)), millis(percentile(sorted, 50)), millis(percentile(sorted, 90)),
+                        millis(percentile(sorted, 99)), millis(sorted[sorted.length - 1])));
+            }
+            appendTextTop(text, "Slowest boot [ms]", top(testClass -> testClass.getNanos(LifecyclePhase.BOOT)),
+                    testClass -> millis(testClass.getNanos(LifecyclePhase.BOOT)));
+            appendTextTop(text, "Largest deployments [beans]", top(testClass -> testClass.beanCount),
+                    testClass -> String.valueOf(testClass.beanCount));
+            appendTextTop(text, "Largest total time [ms]", top(testClass -> testClass.totalNanos),
+                    testClass -> millis(testClass.totalNanos));
+            if (!slowestBeans.isEmpty()) {
+                text.append("\nSlowest bean creation [ms]\n");
+                int rank = 1;
+                for (BeanStatistics bean : slowestBeans) {
+                    text.append(String.format(Locale.ROOT, "%3d. %12s  %s (%d created, %d destroyed)%n", rank++,
+                            millis(bean.getCreationNanos()), bean.getBean(), bean.getCreations(), bean.getDestructions()));
+                }
+            }
+            return text.toString();
+        }
+
+        private static void appendTextTop(StringBuilder text, String title, List<TestClass> top,
+                Function<TestClass, String> value) {
+            text.append('\n').append(title).append('\n');
+            int rank = 1;
+            for (TestClass testClass : top) {
+                text.append(String.format(Locale.ROOT, "%3d. %12s  %s%n", rank++, value.apply(testClass), testClass.name));
+            }
+        }
+
+        private static String key(LifecyclePhase phase) {
+            return phase.name().toLowerCase(Locale.ROOT);
+        }
+
+        private static long sum(long[] values) {
+            long sum = 0;
+            for (long value : values) {
+                sum += value;
+            }
+            return sum;
+        }
+
+        // nearest-rank method
+        private static long percentile(long[] sorted, double percentile) {
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            return sorted[Math.max(rank, 1) - 1];
+        }
+
+        private static String millis(long nanos) {
+            return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+        }
+
+        private static String quote(String value) {
+            StringBuilder quoted = new StringBuilder("\"");
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    quoted.append('\\').append(c);
+                } else if (c < 0x20) {
+                    quoted.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                } else {
+                    quoted.append(c);
+                }
+            }
+            return quoted.append('"').toString();
+        }
+
+    }
+
+}
@@ -18,15 +18,21 @@ package org.jboss.weld.junit;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
+import jakarta.enterprise.context.spi.Contextual;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.Extension;
 
+import org.jboss.weld.junit.ContextImpl.ContextualInstance;
+
 /**
  *
  * @author Martin Kouba
@@ -40,16 +46,28 @@ class WeldCDIExtension implements Extension {
 
     private final List<ContextImpl> contexts;
 
+    // the scopes backed by a SharedContextImpl, a subset of scopesToActivate
+    private volatile Set<Class<? extends Annotation>> sharedScopes = Collections.emptySet();
+
     public WeldCDIExtension(Set<Class<? extends Annotation>> scopesToActivate, Set<Bean<?>> beans) {
         this.scopesToActivate = scopesToActivate;
         this.beans = beans;
         this.contexts = new ArrayList<>();
     }
 
+    Set<Class<? extends Annotation>> getSharedScopes() {
+        return sharedScopes;
+    }
+
+    void setSharedScopes(Set<Class<? extends Annotation>> sharedScopes) {
+        this.sharedScopes = sharedScopes;
+    }
+
     void afterBeandiscovery(@Observes AfterBeanDiscovery event, BeanManager beanManager) {
         if (scopesToActivate != null) {
             for (Class<? extends Annotation> scope : scopesToActivate) {
-                ContextImpl ctx = new ContextImpl(scope, beanManager);
+                ContextImpl ctx = sharedScopes.contains(scope) ? new SharedContextImpl(scope, beanManager)
+                        : new ContextImpl(scope, beanManager);
                 contexts.add(ctx);
                 event.addContext(ctx);
             }
@@ -70,6 +88,70 @@ class WeldCDIExtension implements Extension {
         }
     }
 
+    boolean areThreadBoundContextsActive() {
+        for (ContextImpl context : contexts) {
+            if (context.isThreadBound() && !context.isActive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void activateThreadBoundContexts() {
+        for (ContextImpl context : contexts) {
+            if (context.isThreadBound()) {
+                context.activate();
+            }
+        }
+    }
+
+    void deactivateThreadBoundContexts() {
+        for (ContextImpl context : contexts) {
+            if (context.isThreadBound()) {
+                context.deactivate();
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the instances of the custom contexts active for the current thread, in the order of the contexts
+     */
+    List<Map<Contextual<?>, ContextualInstance<?>>> captureContexts() {
+        List<Map<Contextual<?>, ContextualInstance<?>>> captured = new ArrayList<>(contexts.size());
+        for (ContextImpl context : contexts) {
+            captured.add(context.capture());
+        }
+        return captured;
+    }
+
+    /**
+     *
+     * @param captured the instances obtained via {@link #captureContexts()}
+     * @return the previous instances of the current thread
+     */
+    List<Map<Contextual<?>, ContextualInstance<?>>> attachContexts(List<Map<Contextual<?>, ContextualInstance<?>>> captured) {
+        List<Map<Contextual<?>, ContextualInstance<?>>> previous = new ArrayList<>(contexts.size());
+        for (int i = 0; i < contexts.size(); i++) {
+            previous.add(contexts.get(i).attach(captured.get(i)));
+        }
+        return previous;
+    }
+
+    List<Map<Contextual<?>, ContextualInstance<?>>> snapshotContexts() {
+        List<Map<Contextual<?>, ContextualInstance<?>>> snapshot = new ArrayList<>(contexts.size());
+        for (ContextImpl context : contexts) {
+            snapshot.add(context.snapshot());
+        }
+        return snapshot;
+    }
+
+    void restoreContexts(List<Map<Contextual<?>, ContextualInstance<?>>> snapshot, UnaryOperator<Object> copyStrategy) {
+        for (int i = 0; i < contexts.size(); i++) {
+            contexts.get(i).restore(snapshot.get(i), copyStrategy);
+        }
+    }
+
     public void deactivateContexts() {
         if (contexts.isEmpty()) {
             return;
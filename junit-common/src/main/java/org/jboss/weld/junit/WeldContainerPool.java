@@ -0,0 +1,176 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.weld.environment.se.WeldContainer;
+
+/**
+ * A pool of already booted Weld containers keyed by a deployment fingerprint.
+ * <p>
+ * An initiator whose deployment can be fingerprinted (see
+ * {@link AbstractWeldInitiator#initWeldContainer(org.jboss.weld.environment.se.Weld, WeldContainerPool, Class)})
+ * attempts to lease an idle container with the same fingerprint instead of booting a new one. Once the test is finished the
+ * container is not shut down but returned to the pool; only the activated contexts and the injected non-contextual instances
+ * are reset. Note that the state of {@link jakarta.enterprise.context.ApplicationScoped} beans survives between leases.
+ * </p>
+ * <p>
+ * The number of idle containers is capped. If the cap is exceeded the least recently used container is shut down.
+ * </p>
+ */
+public class WeldContainerPool {
+
+    private static final Logger LOGGER = Logger.getLogger(WeldContainerPool.class.getName());
+
+    // Access-ordered so that the first key is always the least recently used one
+    private final LinkedHashMap<DeploymentFingerprint, Deque<PooledContainer>> idleContainers = new LinkedHashMap<>(16, 0.75f,
+            true);
+
+    private int maxSize;
+
+    private int size;
+
+    /**
+     *
+     * @param maxSize the maximum number of idle containers kept in the pool
+     */
+    public WeldContainerPool(int maxSize) {
+        setMaxSize(maxSize);
+    }
+
+    /**
+     * Changes the maximum number of idle containers. Containers exceeding the new limit are shut down.
+     *
+     * @param maxSize
+     */
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be greater than zero: " + maxSize);
+        }
+        List<PooledContainer> evicted;
+        synchronized (this) {
+            this.maxSize = maxSize;
+            evicted = evictExceeding();
+        }
+        shutdown(evicted);
+    }
+
+    /**
+     *
+     * @return the current number of idle containers
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Shuts down all idle containers.
+     */
+    public void shutdown() {
+        List<PooledContainer> all = new ArrayList<>();
+        synchronized (this) {
+            for (Deque<PooledContainer> containers : idleContainers.values()) {
+                all.addAll(containers);
+            }
+            idleContainers.clear();
+            size = 0;
+        }
+        shutdown(all);
+    }
+
+    synchronized PooledContainer lease(DeploymentFingerprint fingerprint) {
+        Deque<PooledContainer> containers = idleContainers.get(fingerprint);
+        if (containers == null) {
+            return null;
+        }
+        PooledContainer pooled;
+        while ((pooled = containers.pollFirst()) != null) {
+            size--;
+            if (pooled.container.isRunning()) {
+                break;
+            }
+        }
+        if (containers.isEmpty()) {
+            idleContainers.remove(fingerprint);
+        }
+        return pooled;
+    }
+
+    void release(DeploymentFingerprint fingerprint, PooledContainer pooled) {
+        if (!pooled.container.isRunning()) {
+            return;
+        }
+        List<PooledContainer> evicted;
+        synchronized (this) {
+            idleContainers.computeIfAbsent(fingerprint, key -> new ArrayDeque<>()).addLast(pooled);
+            size++;
+            evicted = evictExceeding();
+        }
+        shutdown(evicted);
+    }
+
+    private List<PooledContainer> evictExceeding() {
+        List<PooledContainer> evicted = new ArrayList<>();
+        Iterator<Map.Entry<DeploymentFingerprint, Deque<PooledContainer>>> iterator = idleContainers.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Deque<PooledContainer> containers = iterator.next().getValue();
+            while (size > maxSize && !containers.isEmpty()) {
+                evicted.add(containers.pollFirst());
+                size--;
+            }
+            if (containers.isEmpty()) {
+                iterator.remove();
+            }
+        }
+        return evicted;
+    }
+
+    private void shutdown(List<PooledContainer> containers) {
+        for (PooledContainer pooled : containers) {
+            try {
+                if (pooled.container.isRunning()) {
+                    pooled.container.shutdown();
+                }
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Unable to shut down pooled container " + pooled.container.getId(), e);
+            }
+        }
+    }
+
+    static final class PooledContainer {
+
+        final WeldContainer container;
+
+        final WeldCDIExtension extension;
+
+        PooledContainer(WeldContainer container, WeldCDIExtension extension) {
+            this.container = container;
+            this.extension = extension;
+        }
+
+    }
+
+}
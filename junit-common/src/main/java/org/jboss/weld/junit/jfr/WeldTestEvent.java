@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * The base of the Java Flight Recorder events emitted by the testing extensions.
+ * <p>
+ * The events are created and committed unconditionally; the cost is negligible unless a recording with the event enabled is
+ * in progress. The fields are only computed if {@link #shouldCommit()} or {@link #isEnabled()} returns {@code true}.
+ * </p>
+ * <p>
+ * The test executed by the current thread is set by the test framework integration, see
+ * {@link #setCurrentTest(String, String)}.
+ * </p>
+ */
+@Category({ "Weld", "Testing" })
+@StackTrace(false)
+public abstract class WeldTestEvent extends Event {
+
+    private static final ThreadLocal<String[]> CURRENT_TEST = new ThreadLocal<>();
+
+    @Label("Test Class")
+    public String testClass;
+
+    @Label("Test Method")
+    public String testMethod;
+
+    @Label("Container Id")
+    public String containerId;
+
+    @Label("Bean Count")
+    public int beanCount;
+
+    /**
+     * Sets the test executed by the current thread.
+     *
+     * @param testClass the name of the test class, may be {@code null}
+     * @param testMethod the name of the test method, may be {@code null}
+     */
+    public static void setCurrentTest(String testClass, String testMethod) {
+        CURRENT_TEST.set(new String[] { testClass, testMethod });
+    }
+
+    /**
+     * Clears the test executed by the current thread.
+     */
+    public static void clearCurrentTest() {
+        CURRENT_TEST.remove();
+    }
+
+    /**
+     * Sets the {@link #testClass} and {@link #testMethod} to the test executed by the current thread.
+     */
+    public void describeCurrentTest() {
+        String[] test = CURRENT_TEST.get();
+        if (test != null) {
+            testClass = test[0];
+            testMethod = test[1];
+        }
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit.processor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+
+/**
+ * Mirrors the annotation search semantics of {@code org.junit.platform.commons.support.AnnotationSupport} on the language
+ * model, i.e. annotations may be directly present, meta-present or, for types, present on an implemented interface or
+ * inherited from a superclass if the annotation type is {@link java.lang.annotation.Inherited}.
+ */
+final class AnnotationLookup {
+
+    private static final String INHERITED = "java.lang.annotation.Inherited";
+
+    private static final String REPEATABLE = "java.lang.annotation.Repeatable";
+
+    private static final String JAVA_LANG_ANNOTATION = "java.lang.annotation.";
+
+    private final Elements elements;
+
+    AnnotationLookup(Elements elements) {
+        this.elements = elements;
+    }
+
+    boolean isAnnotated(Element element, String annotationType) {
+        return findAnnotation(element, annotationType) != null;
+    }
+
+    /**
+     * Finds the first matching annotation, see {@code AnnotationSupport.findAnnotation()}.
+     */
+    AnnotationMirror findAnnotation(Element element, String annotationType) {
+        TypeElement type = elements.getTypeElement(annotationType);
+        boolean inherited = type != null && hasAnnotation(type, INHERITED);
+        return findAnnotation(element, annotationType, inherited, new HashSet<>());
+    }
+
+    /**
+     * Finds all matching annotations including the ones wrapped in a container annotation, see
+     * {@code AnnotationSupport.findRepeatableAnnotations()}.
+     */
+    List<AnnotationMirror> findRepeatableAnnotations(Element element, String annotationType) {
+        List<AnnotationMirror> found = new ArrayList<>();
+        TypeElement type = elements.getTypeElement(annotationType);
+        String containerType = type != null ? getContainerType(type) : null;
+        TypeElement container = containerType != null ? elements.getTypeElement(containerType) : null;
+        boolean inherited = container != null && hasAnnotation(container, INHERITED);
+        findRepeatableAnnotations(element, annotationType, containerType, inherited, found, new HashSet<>());
+        return found;
+    }
+
+    private AnnotationMirror findAnnotation(Element element, String annotationType, boolean inherited, Set<String> visited) {
+        // directly present
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (typeName(annotation).equals(annotationType)) {
+                return annotation;
+            }
+        }
+        // meta-present
+        AnnotationMirror found = findMetaAnnotation(element, annotationType, inherited, visited);
+        if (found != null) {
+            return found;
+        }
+        if (element instanceof TypeElement) {
+            TypeElement type = (TypeElement) element;
+            for (TypeMirror ifc : type.getInterfaces()) {
+                TypeElement ifcElement = asTypeElement(ifc);
+                if (ifcElement != null) {
+                    found = findAnnotation(ifcElement, annotationType, inherited, visited);
+                    if (found != null) {
+                        return found;
+                    }
+                }
+            }
+            TypeElement superclass = inherited ? asTypeElement(type.getSuperclass()) : null;
+            if (superclass != null && !superclass.getQualifiedName().contentEquals(Object.class.getName())) {
+                return findAnnotation(superclass, annotationType, inherited, visited);
+            }
+        }
+        return null;
+    }
+
+    private AnnotationMirror findMetaAnnotation(Element element, String annotationType, boolean inherited,
+            Set<String> visited) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            String name = typeName(annotation);
+            if (!name.startsWith(JAVA_LANG_ANNOTATION) && visited.add(name)) {
+                AnnotationMirror found = findAnnotation(annotation.getAnnotationType().asElement(), annotationType, inherited,
+                        visited);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void findRepeatableAnnotations(Element element, String annotationType, String containerType, boolean inherited,
+            List<AnnotationMirror> found, Set<String> visited) {
+        if (element instanceof TypeElement) {
+            TypeElement type = (TypeElement) element;
+            // recurse first in order to support top-down semantics for inherited, repeatable annotations
+            TypeElement superclass = inherited ? asTypeElement(type.getSuperclass()) : null;
+            if (superclass != null && !superclass.getQualifiedName().contentEquals(Object.class.getName())) {
+                findRepeatableAnnotations(superclass, annotationType, containerType, inherited, found, visited);
+            }
+            for (TypeMirror ifc : type.getInterfaces()) {
+                TypeElement ifcElement = asTypeElement(ifc);
+                if (ifcElement != null) {
+                    findRepeatableAnnotations(ifcElement, annotationType, containerType, inherited, found, visited);
+                }
+            }
+        }
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            String name = typeName(annotation);
+            if (name.equals(annotationType)) {
+                found.add(annotation);
+            } else if (name.equals(containerType)) {
+                for (AnnotationValue value : asList(getValue(annotation, "value"))) {
+                    found.add((AnnotationMirror) value.getValue());
+                }
+            } else if (!name.startsWith(JAVA_LANG_ANNOTATION) && visited.add(name)) {
+                // meta-present
+                findRepeatableAnnotations(annotation.getAnnotationType().asElement(), annotationType, containerType, inherited,
+                        found, visited);
+            }
+        }
+    }
+
+    private String getContainerType(TypeElement annotationType) {
+        for (AnnotationMirror annotation : annotationType.getAnnotationMirrors()) {
+            if (typeName(annotation).equals(REPEATABLE)) {
+                TypeElement container = asTypeElement((TypeMirror) getValue(annotation, "value").getValue());
+                return container != null ? container.getQualifiedName().toString() : null;
+            }
+        }
+        return null;
+    }
+
+    static boolean hasAnnotation(Element element, String annotationType) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (typeName(annotation).equals(annotationType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String typeName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    AnnotationValue getValue(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements
+                .getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<? extends AnnotationValue> asList(AnnotationValue value) {
+        if (value == null) {
+            return List.of();
+        }
+        if (value.getValue() instanceof List) {
+            return (List<? extends AnnotationValue>) value.getValue();
+        }
+        return List.of(value);
+    }
+
+    static TypeElement asTypeElement(TypeMirror type) {
+        if (type == null || type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) type).asElement();
+    }
+
+}
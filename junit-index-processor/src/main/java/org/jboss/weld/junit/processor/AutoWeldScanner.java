@@ -0,0 +1,421 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit.processor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Computes the result of the JUnit 5 <b>automagic</b> class scanning, i.e. {@code org.jboss.weld.junit5.auto.ClassScanning},
+ * on the language model.
+ */
+final class AutoWeldScanner {
+
+    private static final String AUTO = "org.jboss.weld.junit5.auto.";
+
+    private static final String INJECT = "jakarta.inject.Inject";
+
+    private static final String QUALIFIER = "jakarta.inject.Qualifier";
+
+    private static final String PRODUCES = "jakarta.enterprise.inject.Produces";
+
+    private static final String INSTANCE = "jakarta.enterprise.inject.Instance";
+
+    private static final String[] BEAN_DEFINING_ANNOTATIONS = { "jakarta.enterprise.context.NormalScope",
+            "jakarta.enterprise.context.Dependent", "jakarta.interceptor.Interceptor", "jakarta.decorator.Decorator",
+            "jakarta.enterprise.inject.Stereotype" };
+
+    private static final String[] TEST_METHOD_ANNOTATIONS = { "org.junit.jupiter.api.Test",
+            "org.junit.jupiter.api.RepeatedTest", "org.junit.jupiter.api.BeforeAll", "org.junit.jupiter.api.BeforeEach",
+            "org.junit.jupiter.api.AfterEach", "org.junit.jupiter.api.AfterAll" };
+
+    private final Elements elements;
+
+    private final Types types;
+
+    private final AnnotationLookup lookup;
+
+    AutoWeldScanner(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+        this.lookup = new AnnotationLookup(elements);
+    }
+
+    /**
+     * @return the entries keyed by the entry name used in the textual form of {@code org.jboss.weld.junit.ScanResult} or
+     *         {@code null} if the result cannot be determined at compile time
+     */
+    Map<String, Set<String>> scan(TypeElement testClass, boolean explicitInjection) {
+        Map<String, Set<String>> result = new LinkedHashMap<>();
+        for (String key : new String[] { "package", "recursivePackage", "beanClass", "interceptor", "decorator", "alternative",
+                "alternativeStereotype", "extension", "excludedBeanType", "excludedBeanClass", "beanDiscoveryMode" }) {
+            result.put(key, new LinkedHashSet<>());
+        }
+
+        List<TypeElement> classesToProcess = new ArrayList<>();
+        classesToProcess.add(testClass);
+
+        Map<String, TypeElement> foundClasses = new LinkedHashMap<>();
+        Set<String> excludedBeanTypes = result.get("excludedBeanType");
+        Set<String> excludedBeanClasses = result.get("excludedBeanClass");
+        Scan scan = new Scan(classesToProcess, explicitInjection);
+
+        while (!classesToProcess.isEmpty()) {
+
+            TypeElement currClass = classesToProcess.remove(0);
+            String name = binaryName(currClass);
+
+            if (foundClasses.containsKey(name) || excludedBeanTypes.contains(name) || excludedBeanClasses.contains(name)
+                    || name.startsWith("java") || name.startsWith("sun")) {
+                continue;
+            }
+
+            foundClasses.put(name, currClass);
+
+            for (VariableElement field : findFieldsInHierarchy(currClass)) {
+                if (lookup.isAnnotated(field, AUTO + "ExcludeBean")) {
+                    addName(excludedBeanTypes, scan.raw(field.asType()));
+                }
+            }
+            for (ExecutableElement method : findMethodsInHierarchy(currClass)) {
+                if (lookup.isAnnotated(method, AUTO + "ExcludeBean")) {
+                    addName(excludedBeanTypes, scan.raw(method.getReturnType()));
+                }
+            }
+
+            for (VariableElement field : findFieldsInHierarchy(currClass)) {
+                if (lookup.isAnnotated(field, INJECT)) {
+                    scan.add(unwrapInstanceTypeParameter(scan, field.asType()));
+                }
+            }
+            for (ExecutableElement method : findMethodsInHierarchy(currClass)) {
+                if (lookup.isAnnotated(method, INJECT)) {
+                    scan.addParameters(method);
+                }
+            }
+
+            ExecutableElement constructor = findFirstInjectConstructor(currClass);
+            if (constructor != null) {
+                scan.addParameters(constructor);
+            }
+
+            for (VariableElement field : ElementFilter.fieldsIn(currClass.getEnclosedElements())) {
+                if (lookup.isAnnotated(field, PRODUCES)) {
+                    scan.add(scan.raw(field.asType()));
+                }
+            }
+            for (ExecutableElement method : ElementFilter.methodsIn(currClass.getEnclosedElements())) {
+                if (lookup.isAnnotated(method, PRODUCES)) {
+                    scan.addParameters(method);
+                    scan.add(scan.raw(method.getReturnType()));
+                }
+            }
+
+            for (String annotation : TEST_METHOD_ANNOTATIONS) {
+                for (ExecutableElement method : findMethodsInHierarchy(currClass)) {
+                    if (lookup.isAnnotated(method, annotation)) {
+                        scan.addParameters(method);
+                    }
+                }
+            }
+
+            for (AnnotationMirror ann : lookup.findRepeatableAnnotations(currClass, AUTO + "AddPackages")) {
+                boolean recursively = (Boolean) lookup.getValue(ann, "recursively").getValue();
+                for (TypeElement cls : scan.classes(ann)) {
+                    addName(result.get(recursively ? "recursivePackage" : "package"), cls);
+                }
+            }
+
+            for (AnnotationMirror ann : lookup.findRepeatableAnnotations(currClass, AUTO + "AddBeanClasses")) {
+                for (TypeElement cls : scan.classes(ann)) {
+                    classesToProcess.add(cls);
+                    addName(result.get("beanClass"), cls);
+                }
+            }
+
+            for (AnnotationMirror ann : lookup.findRepeatableAnnotations(currClass, AUTO + "AddExtensions")) {
+                for (TypeElement cls : scan.classes(ann)) {
+                    addName(result.get("extension"), cls);
+                }
+            }
+
+            for (AnnotationMirror ann : lookup.findRepeatableAnnotations(currClass, AUTO + "AddEnabledInterceptors")) {
+                for (TypeElement cls : scan.classes(ann)) {
+                    classesToProcess.add(cls);
+                    addName(result.get("interceptor"), cls);
+                    addName(result.get("beanClass"), cls);
+                }
+            }
+
+            for (AnnotationMirror ann : lookup.findRepeatableAnnotations(currClass, AUTO + "AddEnabledDecorators")) {
+                for (TypeElement cls : scan.classes(ann)) {
+                    classesToProcess.add(cls);
+                    addName(result.get("decorator"), cls);
+                    addName(result.get("beanClass"), cls);
+                }
+            }
+
+            for (AnnotationMirror ann : lookup.findRepeatableAnnotations(currClass, AUTO + "EnableAlternatives")) {
+                for (TypeElement cls : scan.classes(ann)) {
+                    addName(result.get("alternative"), cls);
+                }
+            }
+
+            for (AnnotationMirror ann : lookup.findRepeatableAnnotations(currClass, AUTO + "EnableAlternativeStereotypes")) {
+                for (TypeElement cls : scan.classes(ann)) {
+                    addName(result.get("alternativeStereotype"), cls);
+                }
+            }
+
+            for (AnnotationMirror ann : lookup.findRepeatableAnnotations(currClass, AUTO + "ExcludeBeanClasses")) {
+                for (TypeElement cls : scan.classes(ann)) {
+                    addName(excludedBeanClasses, cls);
+                }
+            }
+
+            // discovery mode can only be set once; we use the first annotation we find
+            if (result.get("beanDiscoveryMode").isEmpty()) {
+                AnnotationMirror ann = lookup.findAnnotation(currClass, AUTO + "SetBeanDiscoveryMode");
+                if (ann != null) {
+                    result.get("beanDiscoveryMode").add(((VariableElement) lookup.getValue(ann, "value").getValue())
+                            .getSimpleName().toString());
+                }
+            }
+        }
+
+        if (scan.incomplete) {
+            return null;
+        }
+
+        for (Map.Entry<String, TypeElement> foundClass : foundClasses.entrySet()) {
+            if (hasBeanDefiningAnnotation(foundClass.getValue())) {
+                result.get("beanClass").add(foundClass.getKey());
+            }
+        }
+        return result;
+    }
+
+    private boolean hasBeanDefiningAnnotation(TypeElement type) {
+        for (String annotation : BEAN_DEFINING_ANNOTATIONS) {
+            if (lookup.isAnnotated(type, annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private TypeElement unwrapInstanceTypeParameter(Scan scan, TypeMirror type) {
+        TypeElement raw = scan.raw(type);
+        if (raw != null && raw.getQualifiedName().contentEquals(INSTANCE)) {
+            List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            if (arguments.isEmpty() || arguments.get(0).getKind() != TypeKind.DECLARED) {
+                // the runtime scanning fails for such an injection point
+                scan.incomplete = true;
+                return null;
+            }
+            return scan.raw(arguments.get(0));
+        }
+        return raw;
+    }
+
+    private ExecutableElement findFirstInjectConstructor(TypeElement type) {
+        for (TypeElement current = type; current != null; current = AnnotationLookup.asTypeElement(current.getSuperclass())) {
+            for (ExecutableElement constructor : ElementFilter.constructorsIn(current.getEnclosedElements())) {
+                if (lookup.isAnnotated(constructor, INJECT)) {
+                    return constructor;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * All fields of the type, its superclasses and interfaces.
+     */
+    private List<VariableElement> findFieldsInHierarchy(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        TypeElement superclass = AnnotationLookup.asTypeElement(type.getSuperclass());
+        if (superclass != null && !superclass.getQualifiedName().contentEquals(Object.class.getName())) {
+            fields.addAll(findFieldsInHierarchy(superclass));
+        }
+        for (TypeMirror ifc : type.getInterfaces()) {
+            TypeElement ifcElement = AnnotationLookup.asTypeElement(ifc);
+            if (ifcElement != null) {
+                fields.addAll(findFieldsInHierarchy(ifcElement));
+            }
+        }
+        fields.addAll(ElementFilter.fieldsIn(type.getEnclosedElements()));
+        return fields;
+    }
+
+    /**
+     * Methods of the type, its superclasses and non-abstract methods of its interfaces, excluding overridden methods.
+     */
+    private List<ExecutableElement> findMethodsInHierarchy(TypeElement type) {
+        List<ExecutableElement> local = ElementFilter.methodsIn(type.getEnclosedElements());
+        List<ExecutableElement> methods = new ArrayList<>(local);
+        TypeElement superclass = AnnotationLookup.asTypeElement(type.getSuperclass());
+        if (superclass != null && !superclass.getQualifiedName().contentEquals(Object.class.getName())) {
+            addNotShadowed(methods, findMethodsInHierarchy(superclass), local);
+        }
+        addNotShadowed(methods, findInterfaceMethods(type), local);
+        return methods;
+    }
+
+    private List<ExecutableElement> findInterfaceMethods(TypeElement type) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (TypeMirror ifc : type.getInterfaces()) {
+            TypeElement ifcElement = AnnotationLookup.asTypeElement(ifc);
+            if (ifcElement == null) {
+                continue;
+            }
+            List<ExecutableElement> local = new ArrayList<>();
+            for (ExecutableElement method : ElementFilter.methodsIn(ifcElement.getEnclosedElements())) {
+                if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+                    local.add(method);
+                }
+            }
+            methods.addAll(local);
+            addNotShadowed(methods, findInterfaceMethods(ifcElement), local);
+        }
+        return methods;
+    }
+
+    private void addNotShadowed(List<ExecutableElement> methods, List<ExecutableElement> candidates,
+            List<ExecutableElement> local) {
+        for (ExecutableElement candidate : candidates) {
+            if (local.stream().noneMatch(method -> hasSameSignature(candidate, method))) {
+                methods.add(candidate);
+            }
+        }
+    }
+
+    private boolean hasSameSignature(ExecutableElement upper, ExecutableElement lower) {
+        if (!upper.getSimpleName().contentEquals(lower.getSimpleName())
+                || upper.getParameters().size() != lower.getParameters().size()) {
+            return false;
+        }
+        for (int i = 0; i < upper.getParameters().size(); i++) {
+            if (!types.isSameType(types.erasure(upper.getParameters().get(i).asType()),
+                    types.erasure(lower.getParameters().get(i).asType()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String binaryName(TypeElement type) {
+        return elements.getBinaryName(type).toString();
+    }
+
+    private void addName(Set<String> names, TypeElement type) {
+        if (type != null) {
+            names.add(binaryName(type));
+        }
+    }
+
+    private final class Scan {
+
+        private final List<TypeElement> classesToProcess;
+
+        private final boolean explicitInjection;
+
+        // set if a type could not be resolved, e.g. because it is generated in a later round
+        private boolean incomplete;
+
+        private Scan(List<TypeElement> classesToProcess, boolean explicitInjection) {
+            this.classesToProcess = classesToProcess;
+            this.explicitInjection = explicitInjection;
+        }
+
+        void add(TypeElement type) {
+            if (type != null) {
+                classesToProcess.add(type);
+            }
+        }
+
+        void addParameters(ExecutableElement executable) {
+            for (VariableElement parameter : executable.getParameters()) {
+                if (!explicitInjection || isBeanParameter(parameter)) {
+                    add(raw(parameter.asType()));
+                }
+            }
+        }
+
+        private boolean isBeanParameter(Element parameter) {
+            for (AnnotationMirror annotation : parameter.getAnnotationMirrors()) {
+                if (lookup.isAnnotated(annotation.getAnnotationType().asElement(), QUALIFIER)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        List<TypeElement> classes(AnnotationMirror annotation) {
+            List<TypeElement> classes = new ArrayList<>();
+            for (AnnotationValue value : AnnotationLookup.asList(lookup.getValue(annotation, "value"))) {
+                Object type = value.getValue();
+                TypeElement element = type instanceof TypeMirror ? raw((TypeMirror) type) : null;
+                if (element == null) {
+                    incomplete = true;
+                } else if (!classes.contains(element)) {
+                    classes.add(element);
+                }
+            }
+            return classes;
+        }
+
+        /**
+         * @return the element of the erasure of the given type, {@code null} for primitives and arrays
+         */
+        TypeElement raw(TypeMirror type) {
+            if (type.getKind() == TypeKind.ERROR) {
+                incomplete = true;
+                return null;
+            }
+            TypeMirror erasure = types.erasure(type);
+            if (erasure.getKind() == TypeKind.DECLARED) {
+                Element element = ((DeclaredType) erasure).asElement();
+                if (element.getKind() != ElementKind.TYPE_PARAMETER) {
+                    return (TypeElement) element;
+                }
+            }
+            return null;
+        }
+
+    }
+
+}
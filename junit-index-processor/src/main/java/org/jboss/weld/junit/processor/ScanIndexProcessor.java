@@ -0,0 +1,129 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit.processor;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * An annotation processor which performs the <b>automagic</b> class scanning of test classes annotated with
+ * {@code org.jboss.weld.junit5.auto.EnableAutoWeld} at compile time.
+ * <p>
+ * For each such test class two resources are generated - one for each value of {@code explicitParamInjection}. At runtime
+ * {@code org.jboss.weld.junit.ScanIndex} loads the index instead of scanning the test class reflectively, provided the
+ * {@code org.jboss.weld.junit.scanIndex} system property is set to {@code true}. A test class whose
+ * scan result cannot be fully determined at compile time, e.g. because it references a type generated later, is skipped and
+ * scanned at runtime as usual.
+ * </p>
+ * <p>
+ * The processor is registered as a service. Simply add this artifact to the test compile classpath or to the
+ * {@code annotationProcessorPaths} of the compiler plugin.
+ * </p>
+ */
+@SupportedAnnotationTypes("*")
+public class ScanIndexProcessor extends AbstractProcessor {
+
+    static final String INDEX_LOCATION = "META-INF/weld-junit/scan-index/";
+
+    static final String ENABLE_AUTO_WELD = "org.jboss.weld.junit5.auto.EnableAutoWeld";
+
+    // Must be kept in sync with org.jboss.weld.junit.ScanIndex#VERSION, verified by ScanIndexProcessorTest
+    static final int VERSION = 1;
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (processingEnv.getElementUtils().getTypeElement(ENABLE_AUTO_WELD) == null) {
+            // weld-junit5 is not on the classpath
+            return false;
+        }
+        AnnotationLookup lookup = new AnnotationLookup(processingEnv.getElementUtils());
+        AutoWeldScanner scanner = new AutoWeldScanner(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            process(type, lookup, scanner);
+        }
+        // Do not claim any annotations
+        return false;
+    }
+
+    private void process(TypeElement type, AnnotationLookup lookup, AutoWeldScanner scanner) {
+        if (type.getKind() == ElementKind.CLASS && lookup.isAnnotated(type, ENABLE_AUTO_WELD)) {
+            for (boolean explicitInjection : new boolean[] { false, true }) {
+                Map<String, Set<String>> result = scanner.scan(type, explicitInjection);
+                if (result != null) {
+                    write(type, explicitInjection, result);
+                }
+            }
+        }
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            // Inner classes, e.g. @Nested tests, are scanned together with the enclosing class at runtime
+            if (nested.getModifiers().contains(Modifier.STATIC)) {
+                process(nested, lookup, scanner);
+            }
+        }
+    }
+
+    private void write(TypeElement type, boolean explicitInjection, Map<String, Set<String>> result) {
+        String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String resource = INDEX_LOCATION + name + (explicitInjection ? ".explicit" : "") + ".scan";
+        if (!generated.add(resource)) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", resource,
+                    new Element[] { type });
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.append("version ").append(String.valueOf(VERSION)).append('\n');
+                writer.append("test ").append(name).append('\n');
+                writer.append("explicitInjection ").append(String.valueOf(explicitInjection)).append('\n');
+                for (Map.Entry<String, Set<String>> entry : result.entrySet()) {
+                    for (String value : entry.getValue()) {
+                        writer.append(entry.getKey()).append(' ').append(value).append('\n');
+                    }
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Unable to write the scan index for " + name + ": " + e.getMessage(), type);
+        }
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.apiguardian.api.API;
+import org.jboss.weld.junit.ScanIndex;
+import org.jboss.weld.junit.ScanResult;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ScanIndexProcessorTest {
+
+    private static final String SOURCE = String.join("\n",
+            "package sample;",
+            "import jakarta.enterprise.context.ApplicationScoped;",
+            "import jakarta.enterprise.context.Dependent;",
+            "import jakarta.enterprise.inject.Instance;",
+            "import jakarta.inject.Inject;",
+            "import jakarta.inject.Named;",
+            "import org.jboss.weld.junit5.auto.AddBeanClasses;",
+            "import org.jboss.weld.junit5.auto.EnableAutoWeld;",
+            "import org.jboss.weld.junit5.auto.ExcludeBeanClasses;",
+            "import org.junit.jupiter.api.Test;",
+            "@EnableAutoWeld",
+            "@AddBeanClasses(Helper.class)",
+            "@ExcludeBeanClasses(Excluded.class)",
+            "public class SampleTest {",
+            "  @Inject Service service;",
+            "  @Inject Instance<Other> other;",
+            "  @Test void test(Param param, @Named(\"q\") Qualified qualified) {}",
+            "  @EnableAutoWeld",
+            "  public static class NestedTest {",
+            "    @Inject Excluded excluded;",
+            "  }",
+            "}",
+            "@ApplicationScoped class Service { @Inject Dep dep; }",
+            "@Dependent class Dep {}",
+            "@Dependent class Other {}",
+            "@Dependent class Param {}",
+            "@Dependent class Qualified {}",
+            "class Helper {}",
+            "@ApplicationScoped class Excluded {}");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testIndex() throws IOException {
+        Path classes = compile();
+
+        List<String> index = read(classes, "sample.SampleTest.scan");
+        assertEquals(List.of("version " + ScanIndex.VERSION, "test sample.SampleTest", "explicitInjection false"),
+                index.subList(0, 3));
+        assertEquals(Set.of("sample.Helper", "sample.Service", "sample.Dep", "sample.Other", "sample.Param",
+                "sample.Qualified"), values(index, "beanClass"));
+        assertEquals(Set.of("sample.Excluded"), values(index, "excludedBeanClass"));
+
+        List<String> explicitIndex = read(classes, "sample.SampleTest.explicit.scan");
+        assertEquals("explicitInjection true", explicitIndex.get(2));
+        // Param is not annotated with a qualifier
+        assertEquals(Set.of("sample.Helper", "sample.Service", "sample.Dep", "sample.Other", "sample.Qualified"),
+                values(explicitIndex, "beanClass"));
+
+        // Static nested test classes are indexed separately
+        assertEquals(Set.of("sample.Excluded"), values(read(classes, "sample.SampleTest$NestedTest.scan"), "beanClass"));
+    }
+
+    @Test
+    void testVersion() {
+        assertEquals(ScanIndex.VERSION, ScanIndexProcessor.VERSION);
+    }
+
+    @Test
+    void testScanIndex() throws IOException, ClassNotFoundException {
+        Path classes = compile();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() },
+                getClass().getClassLoader())) {
+            Class<?> testClass = classLoader.loadClass("sample.SampleTest");
+            // the index is opt-in
+            assertNull(ScanIndex.find(testClass, false));
+            System.setProperty(ScanIndex.ENABLED, "true");
+            ScanResult result;
+            try {
+                result = ScanIndex.find(testClass, false);
+                assertNotNull(ScanIndex.find(testClass, true));
+            } finally {
+                System.clearProperty(ScanIndex.ENABLED);
+            }
+            assertNotNull(result);
+            StringBuilder entries = new StringBuilder();
+            result.writeTo(entries);
+            assertTrue(entries.toString().contains("beanClass sample.Service"), entries.toString());
+        }
+    }
+
+    private Path compile() throws IOException {
+        Path sources = Files.createDirectories(dir.resolve("src/sample"));
+        Path source = Files.writeString(sources.resolve("SampleTest.java"), SOURCE);
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            List<String> options = List.of("-classpath", classpath(), "-d", classes.toString(), "-s",
+                    classes.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null,
+                    fileManager.getJavaFileObjects(source.toFile()));
+            task.setProcessors(List.of(new ScanIndexProcessor()));
+            assertTrue(task.call());
+        }
+        return classes;
+    }
+
+    private static List<String> read(Path classes, String name) throws IOException {
+        Path index = classes.resolve(ScanIndexProcessor.INDEX_LOCATION + name);
+        assertTrue(Files.isRegularFile(index), index.toString());
+        return Files.readAllLines(index);
+    }
+
+    private static Set<String> values(List<String> index, String key) {
+        return index.stream().filter(line -> line.startsWith(key + " ")).map(line -> line.substring(key.length() + 1))
+                .collect(Collectors.toSet());
+    }
+
+    private static String classpath() {
+        return List.of(EnableAutoWeld.class, ScanIndex.class, Inject.class, ApplicationScoped.class, Instance.class,
+                Test.class, API.class).stream().map(ScanIndexProcessorTest::location).distinct()
+                .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    private static String location(Class<?> clazz) {
+        try {
+            return Path.of(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -29,6 +29,7 @@ import jakarta.enterprise.inject.spi.InjectionPoint;
 
 import org.jboss.weld.environment.se.Weld;
 import org.jboss.weld.junit.AbstractWeldInitiator;
+import org.jboss.weld.junit.PackageIndex;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.rules.MethodRule;
@@ -150,7 +151,7 @@ public class WeldInitiator extends AbstractWeldInitiator implements TestRule {
                 weld.addBeanClass(clazz);
             }
         }
-        return from(weld);
+        return from(weld).withDeploymentClasses(beanClasses);
     }
 
     /**
@@ -203,6 +204,11 @@ public class WeldInitiator extends AbstractWeldInitiator implements TestRule {
             return this;
         }
 
+        // the protected method of AbstractBuilder is not accessible from WeldInitiator itself
+        private Builder withDeploymentClasses(Class<?>... beanClasses) {
+            return deploymentClasses(beanClasses);
+        }
+
         @Override
         protected WeldInitiator build(Weld weld, List<Object> instancesToInject,
                 Set<Class<? extends Annotation>> scopesToActivate, Set<Bean<?>> beans) {
@@ -260,7 +266,7 @@ public class WeldInitiator extends AbstractWeldInitiator implements TestRule {
                 Weld weld = WeldInitiator.this.weld;
                 if (weld == null) {
                     // Null in case of fromTestPackage() is used
-                    weld = createWeld().addPackage(false, description.getTestClass());
+                    weld = PackageIndex.addPackage(createWeld(), false, description.getTestClass());
                 }
                 initWeldContainer(weld);
                 try {
@@ -0,0 +1,155 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.weld.junit.WeldContainerPool;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Boots the container of the next test class on a background thread while the current test class is executed. The booted
+ * container is released to the {@link WeldContainerPool} and leased by the next test class once it starts.
+ * <p>
+ * Only test classes declaring a static {@link WeldSetup} field whose {@link WeldInitiator} can be fingerprinted are
+ * prefetched. The configuration of all other test classes, e.g. instance fields or the automagic mode, depends on the test
+ * instance and such classes simply boot their container as usual.
+ * </p>
+ *
+ * @see WeldJunit5Extension#GLOBAL_PREFETCH
+ */
+final class ContainerPrefetcher implements ExtensionContext.Store.CloseableResource {
+
+    private static final Logger LOGGER = Logger.getLogger(ContainerPrefetcher.class.getName());
+
+    private final WeldContainerPool pool;
+
+    private final ExecutorService executor;
+
+    private final ConcurrentMap<String, Future<?>> prefetches = new ConcurrentHashMap<>();
+
+    ContainerPrefetcher(WeldContainerPool pool) {
+        this.pool = pool;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "weld-junit5-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts booting the container of the test class executed after the given one, if any.
+     *
+     * @param testClass the current test class
+     */
+    void prefetchNext(Class<?> testClass) {
+        String nextTestClassName;
+        try {
+            nextTestClassName = TestClassOrderListener.nextTestClass(testClass.getName());
+        } catch (LinkageError e) {
+            // JUnit Platform Launcher is not available
+            return;
+        }
+        if (nextTestClassName == null) {
+            return;
+        }
+        ClassLoader classLoader = testClass.getClassLoader();
+        // a Callable so that the failure is reported when awaiting the prefetch
+        prefetches.computeIfAbsent(nextTestClassName, name -> executor.submit(() -> {
+            prefetch(name, classLoader);
+            return null;
+        }));
+    }
+
+    /**
+     * Waits until the prefetch of the given test class is finished so that the prefetched container can be leased from the
+     * pool.
+     *
+     * @param testClass the current test class
+     */
+    void awaitPrefetch(Class<?> testClass) {
+        Future<?> prefetch = prefetches.get(testClass.getName());
+        if (prefetch == null) {
+            return;
+        }
+        try {
+            prefetch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.WARNING, "Unable to prefetch container for " + testClass.getName(), e.getCause());
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } finally {
+            // containers prefetched for test classes which were never executed
+            pool.shutdown();
+        }
+    }
+
+    private void prefetch(String testClassName, ClassLoader classLoader) throws ClassNotFoundException {
+        Class<?> testClass = Class.forName(testClassName, true, classLoader);
+        WeldInitiator initiator = findStaticInitiator(testClass);
+        // a running initiator is already used by another test class
+        if (initiator != null && !initiator.isRunning()) {
+            initiator.prefetchWeld(testClass, pool);
+        }
+    }
+
+    private static WeldInitiator findStaticInitiator(Class<?> testClass) {
+        WeldInitiator initiator = null;
+        for (Class<?> clazz = testClass; clazz != null; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (!field.isAnnotationPresent(WeldSetup.class)) {
+                    continue;
+                }
+                // instance fields and initiators shared with other test classes cannot be prefetched
+                if (!Modifier.isStatic(field.getModifiers()) || clazz != testClass || initiator != null) {
+                    return null;
+                }
+                field.setAccessible(true);
+                Object value;
+                try {
+                    value = field.get(null);
+                } catch (IllegalAccessException e) {
+                    return null;
+                }
+                if (!(value instanceof WeldInitiator)) {
+                    return null;
+                }
+                initiator = (WeldInitiator) value;
+            }
+        }
+        return initiator;
+    }
+
+}
@@ -16,9 +16,18 @@
  */
 package org.jboss.weld.junit5;
 
+import java.lang.reflect.Parameter;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 
 import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.junit.ContainerShutdownExecutor;
+import org.jboss.weld.junit.LifecycleTimings;
+import org.jboss.weld.junit.WeldContainerPool;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 
@@ -34,8 +43,18 @@ public class ExtensionContextUtils {
     private static final String CONTAINER = "weldContainer";
     private static final String EXPLICIT_PARAM_INJECTION = "explicitParamInjection";
     private static final String WELD_ENRICHERS = "weldEnrichers";
+    private static final String TIMINGS_LISTENERS = "weldLifecycleTimingsListeners";
+    private static final String TIMINGS = "weldLifecycleTimings";
+    private static final String CONTAINER_POOL = "weldContainerPool";
+    private static final String SOFT_RESET_OWNER = "softResetOwner";
+    private static final String CONTAINER_PREFETCHER = "weldContainerPrefetcher";
+    private static final String SHUTDOWN_EXECUTOR = "weldShutdownExecutor";
 
-    private static Namespace EXTENSION_NAMESPACE;
+    private static final String SOFT_RESET_LOCK = "softResetLock";
+    private static final String THREAD_CONTEXTS = "weldThreadContexts";
+    private static final String RESOLUTION_PLANS = "weldParameterResolutionPlans";
+
+    private static final Namespace EXTENSION_NAMESPACE = Namespace.create(WeldJunit5Extension.class);
 
     // private constructor to prevent instantiation
     private ExtensionContextUtils() {
@@ -48,10 +67,7 @@ public class ExtensionContextUtils {
      * @param context {@link ExtensionContext} you are currently using
      * @return <b>Root</b> {@link ExtensionContext.Store} with {@link Namespace} based on extension class alone
      */
-    private static synchronized ExtensionContext.Store getRootExtensionStore(ExtensionContext context) {
-        if (EXTENSION_NAMESPACE == null) {
-            EXTENSION_NAMESPACE = Namespace.create(WeldJunit5Extension.class);
-        }
+    private static ExtensionContext.Store getRootExtensionStore(ExtensionContext context) {
         return context.getRoot().getStore(EXTENSION_NAMESPACE);
     }
 
@@ -66,6 +82,21 @@ public class ExtensionContextUtils {
         return context.getStore(Namespace.create(WeldJunit5Extension.class, context.getRequiredTestClass()));
     }
 
+    /**
+     * The parent of a test method context is not necessarily the test class context, e.g. the invocations of a
+     * {@link org.junit.jupiter.api.RepeatedTest} are children of the test template context.
+     *
+     * @param context {@link ExtensionContext} you are currently using
+     * @return the context of the test class
+     */
+    private static ExtensionContext getClassContext(ExtensionContext context) {
+        ExtensionContext classContext = context;
+        while (classContext.getTestMethod().isPresent() && classContext.getParent().isPresent()) {
+            classContext = classContext.getParent().get();
+        }
+        return classContext;
+    }
+
     /**
      * Can return null if WeldInitiator isn't stored yet
      */
@@ -112,6 +143,25 @@ public class ExtensionContextUtils {
         getTestStore(context).put(CONTAINER, container);
     }
 
+    /**
+     * Can return null if the soft reset mode is not used or if no container was booted for the test class yet
+     *
+     * @param context {@link ExtensionContext} to search in
+     * @return the {@link WeldInitiator} which booted the container shared by all test methods of the test class
+     */
+    public static WeldInitiator getSoftResetOwnerFromStore(ExtensionContext context) {
+        SoftResetOwner owner = getTestStore(context).get(SOFT_RESET_OWNER, SoftResetOwner.class);
+        return owner != null ? owner.initiator : null;
+    }
+
+    /**
+     * Store the {@link WeldInitiator} owning the container shared by all test methods to the {@link ExtensionContext.Store}
+     * of the test class. The container is shut down once the test class context is closed.
+     */
+    public static void setSoftResetOwnerToStore(ExtensionContext context, WeldInitiator initiator) {
+        getTestStore(getClassContext(context)).put(SOFT_RESET_OWNER, new SoftResetOwner(initiator));
+    }
+
     /**
      * Can return null if `WeldJunitEnricher`s aren't stored yet.
      *
@@ -132,4 +182,246 @@ public class ExtensionContextUtils {
         getRootExtensionStore(context).put(WELD_ENRICHERS, enrichers);
     }
 
+    /**
+     * Store `WeldJunitEnricher`s to <i>root</i> extension context unless already stored; test classes executed concurrently
+     * may attempt to do so at the same time
+     */
+    static void setEnrichersToStoreIfAbsent(ExtensionContext context, Supplier<List<WeldJunitEnricher>> enrichers) {
+        getRootExtensionStore(context).getOrComputeIfAbsent(WELD_ENRICHERS, key -> enrichers.get());
+    }
+
+    /**
+     * Can return null if `LifecycleTimingsListener`s aren't stored yet.
+     */
+    static List<LifecycleTimingsListener> getTimingsListenersFromStore(ExtensionContext context) {
+        @SuppressWarnings("unchecked")
+        List<LifecycleTimingsListener> listeners = (List<LifecycleTimingsListener>) getRootExtensionStore(context)
+                .get(TIMINGS_LISTENERS, List.class);
+        return listeners;
+    }
+
+    /**
+     * Store `LifecycleTimingsListener`s to <i>root</i> extension context unless already stored
+     */
+    static void setTimingsListenersToStoreIfAbsent(ExtensionContext context,
+            Supplier<List<LifecycleTimingsListener>> listeners) {
+        getRootExtensionStore(context).getOrComputeIfAbsent(TIMINGS_LISTENERS, key -> listeners.get());
+    }
+
+    /**
+     * Returns the {@link LifecycleTimings} of the current test method or test class, creating them if needed.
+     */
+    static LifecycleTimings getTimingsFromStore(ExtensionContext context) {
+        // the store of a test method would otherwise return the timings of its test class
+        return getTestStore(context).getOrComputeIfAbsent(TIMINGS + context.getUniqueId(), key -> new LifecycleTimings(),
+                LifecycleTimings.class);
+    }
+
+    /**
+     * Can return null if no {@link LifecycleTimings} were stored for the current test method or test class
+     */
+    static LifecycleTimings removeTimingsFromStore(ExtensionContext context) {
+        return getTestStore(context).remove(TIMINGS + context.getUniqueId(), LifecycleTimings.class);
+    }
+
+    /**
+     * Returns the parameter resolution plans stored in the context of the test class, creating them if needed. The contexts of
+     * test methods, repeated and parameterized test invocations are skipped so that the plans survive a single invocation.
+     */
+    static Map<Parameter, ParameterResolutionPlan> getResolutionPlansFromStore(ExtensionContext context) {
+        @SuppressWarnings("unchecked")
+        Map<Parameter, ParameterResolutionPlan> plans = getTestStore(getClassContext(context)).getOrComputeIfAbsent(
+                RESOLUTION_PLANS, key -> new ConcurrentHashMap<Parameter, ParameterResolutionPlan>(), Map.class);
+        return plans;
+    }
+
+    /**
+     * Blocks until the given lock is available and holds it until the context of the current test method is closed, i.e.
+     * after all after-each callbacks were invoked. This guarantees that test methods executed concurrently never use a
+     * shared {@link WeldInitiator} or a shared container at the same time.
+     *
+     * @param context the {@link ExtensionContext} of the test method
+     * @param lock the lock
+     */
+    static void lockForTestMethod(ExtensionContext context, Semaphore lock) {
+        LockBlocker blocker = new LockBlocker(lock);
+        try {
+            // compensate for the blocked worker if the tests are executed in a ForkJoinPool
+            ForkJoinPool.managedBlock(blocker);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the Weld container used by another test method", e);
+        }
+        // the lock itself is the key so that a test method may hold several locks
+        getTestStore(context).put(lock, new HeldLock(lock));
+    }
+
+    /**
+     * Returns the lock serializing the test methods of a test class in the soft reset mode, all of them share a single
+     * container.
+     *
+     * @param context {@link ExtensionContext} you are currently using
+     * @return the lock stored in the test class context
+     */
+    static Semaphore getSoftResetLockFromStore(ExtensionContext context) {
+        return getTestStore(getClassContext(context)).getOrComputeIfAbsent(SOFT_RESET_LOCK, key -> new Semaphore(1),
+                Semaphore.class);
+    }
+
+    /**
+     * Records that the custom contexts of the given initiator were activated for the thread executing the current test method.
+     */
+    static void setThreadContextsToStore(ExtensionContext context, WeldInitiator initiator) {
+        getTestStore(context).put(THREAD_CONTEXTS, initiator);
+    }
+
+    /**
+     * Can return null if no custom contexts were activated for the thread executing the current test method
+     */
+    static WeldInitiator removeThreadContextsFromStore(ExtensionContext context) {
+        return getTestStore(context).remove(THREAD_CONTEXTS, WeldInitiator.class);
+    }
+
+    /**
+     * Returns the {@link WeldContainerPool} stored in the <i>root</i> extension context, creating it if needed. Pooled
+     * containers are shut down once the root context is closed, i.e. at the end of the test suite.
+     *
+     * @param context {@link ExtensionContext} you are currently using
+     * @param maxSize the maximum number of idle containers
+     * @return the shared {@link WeldContainerPool}
+     */
+    public static WeldContainerPool getContainerPoolFromStore(ExtensionContext context, int maxSize) {
+        WeldContainerPool pool = getRootExtensionStore(context)
+                .getOrComputeIfAbsent(CONTAINER_POOL, key -> new StoredContainerPool(maxSize), StoredContainerPool.class).pool;
+        pool.setMaxSize(maxSize);
+        return pool;
+    }
+
+    /**
+     * Shuts down the idle containers of the {@link WeldContainerPool} stored in the <i>root</i> extension context, if there is
+     * any. Leased containers are not affected.
+     *
+     * @param context {@link ExtensionContext} you are currently using
+     */
+    static void shutdownIdleContainersInStore(ExtensionContext context) {
+        StoredContainerPool stored = getRootExtensionStore(context).get(CONTAINER_POOL, StoredContainerPool.class);
+        if (stored != null) {
+            stored.pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the {@link ContainerShutdownExecutor} stored in the <i>root</i> extension context, creating it if needed. The
+     * executor is drained once the root context is closed, i.e. at the end of the test suite.
+     *
+     * @param context {@link ExtensionContext} you are currently using
+     * @param threads the maximum number of threads used to shut down containers
+     * @return the shared {@link ContainerShutdownExecutor}
+     */
+    public static ContainerShutdownExecutor getShutdownExecutorFromStore(ExtensionContext context, int threads) {
+        return getRootExtensionStore(context).getOrComputeIfAbsent(SHUTDOWN_EXECUTOR,
+                key -> new StoredShutdownExecutor(threads), StoredShutdownExecutor.class).executor;
+    }
+
+    /**
+     * Returns the {@link ContainerPrefetcher} stored in the <i>root</i> extension context, creating it if needed.
+     *
+     * @param context {@link ExtensionContext} you are currently using
+     * @param pool the pool prefetched containers are released to
+     * @return the shared {@link ContainerPrefetcher}
+     */
+    static ContainerPrefetcher getContainerPrefetcherFromStore(ExtensionContext context, WeldContainerPool pool) {
+        return getRootExtensionStore(context).getOrComputeIfAbsent(CONTAINER_PREFETCHER, key -> new ContainerPrefetcher(pool),
+                ContainerPrefetcher.class);
+    }
+
+    private static final class LockBlocker implements ForkJoinPool.ManagedBlocker {
+
+        private final Semaphore lock;
+
+        private boolean acquired;
+
+        private LockBlocker(Semaphore lock) {
+            this.lock = lock;
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            if (!acquired) {
+                lock.acquire();
+                acquired = true;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            if (!acquired) {
+                acquired = lock.tryAcquire();
+            }
+            return acquired;
+        }
+
+    }
+
+    private static final class HeldLock implements ExtensionContext.Store.CloseableResource {
+
+        private final Semaphore lock;
+
+        private HeldLock(Semaphore lock) {
+            this.lock = lock;
+        }
+
+        @Override
+        public void close() {
+            lock.release();
+        }
+
+    }
+
+    private static final class SoftResetOwner implements ExtensionContext.Store.CloseableResource {
+
+        private final WeldInitiator initiator;
+
+        private SoftResetOwner(WeldInitiator initiator) {
+            this.initiator = initiator;
+        }
+
+        @Override
+        public void close() {
+            initiator.shutdownWeld();
+        }
+
+    }
+
+    private static final class StoredShutdownExecutor implements ExtensionContext.Store.CloseableResource {
+
+        private final ContainerShutdownExecutor executor;
+
+        private StoredShutdownExecutor(int threads) {
+            this.executor = new ContainerShutdownExecutor(threads);
+        }
+
+        @Override
+        public void close() {
+            executor.drain();
+        }
+
+    }
+
+    private static final class StoredContainerPool implements ExtensionContext.Store.CloseableResource {
+
+        private final WeldContainerPool pool;
+
+        private StoredContainerPool(int maxSize) {
+            this.pool = new WeldContainerPool(maxSize);
+        }
+
+        @Override
+        public void close() {
+            pool.shutdown();
+        }
+
+    }
+
 }
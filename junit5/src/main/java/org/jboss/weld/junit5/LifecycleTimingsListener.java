@@ -0,0 +1,44 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5;
+
+import org.jboss.weld.junit.LifecycleTimings;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * All service providers of this interface are notified about the {@link LifecycleTimings} measured by
+ * {@link WeldJunit5Extension}, e.g. to feed them into a custom dashboard. The timings are measured as soon as there is a
+ * service provider or if {@value WeldJunit5Extension#GLOBAL_LIFECYCLE_TIMINGS} is set to {@code true}.
+ * <p>
+ * A test method is notified after all its after-each callbacks of this extension were invoked, a test class is notified after
+ * all its after-all callbacks of this extension were invoked. No notification is sent if no phase was measured, e.g. for a test
+ * class using the {@link org.junit.jupiter.api.TestInstance.Lifecycle#PER_METHOD} lifecycle.
+ * </p>
+ *
+ * @see org.jboss.weld.junit.LifecyclePhase
+ */
+public interface LifecycleTimingsListener {
+
+    /**
+     * Implementations must be thread-safe, tests may be executed concurrently.
+     *
+     * @param context the context of the test method or the test class
+     * @param timings the measured timings
+     */
+    void timingsMeasured(ExtensionContext context, LifecycleTimings timings);
+
+}
@@ -0,0 +1,124 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.inject.WeldInstance;
+
+/**
+ * The result of the resolution of a test method parameter against a particular container. The plan is computed once by
+ * {@link WeldJunit5Extension#supportsParameter(org.junit.jupiter.api.extension.ParameterContext, org.junit.jupiter.api.extension.ExtensionContext)}
+ * and reused by all subsequent invocations of the same method, e.g. by repeated and parameterized tests, as long as they use
+ * the same container.
+ */
+final class ParameterResolutionPlan {
+
+    private final WeldContainer container;
+
+    private final List<Annotation> qualifiers;
+
+    // null if the parameter is not resolved by Weld
+    private final WeldInstance<?> instance;
+
+    // null unless the bean is normal scoped, i.e. the client proxy can be obtained directly
+    private final Bean<?> normalScopedBean;
+
+    private final Type type;
+
+    private final boolean resolvable;
+
+    private final boolean ambiguous;
+
+    private ParameterResolutionPlan(WeldContainer container, List<Annotation> qualifiers, WeldInstance<?> instance,
+            Bean<?> normalScopedBean, Type type, boolean resolvable, boolean ambiguous) {
+        this.container = container;
+        this.qualifiers = qualifiers;
+        this.instance = instance;
+        this.normalScopedBean = normalScopedBean;
+        this.type = type;
+        this.resolvable = resolvable;
+        this.ambiguous = ambiguous;
+    }
+
+    /**
+     *
+     * @param container
+     * @param qualifiers
+     * @return a plan for a parameter which is not resolved by Weld
+     */
+    static ParameterResolutionPlan unsupported(WeldContainer container, List<Annotation> qualifiers) {
+        return new ParameterResolutionPlan(container, qualifiers, null, null, null, false, false);
+    }
+
+    /**
+     *
+     * @param container
+     * @param type the required type
+     * @param qualifiers the required qualifiers
+     * @return a plan for a parameter resolved by Weld, the bean may be unsatisfied or ambiguous
+     */
+    static ParameterResolutionPlan supported(WeldContainer container, Type type, List<Annotation> qualifiers) {
+        WeldInstance<?> instance = container.select(type, qualifiers.toArray(new Annotation[qualifiers.size()]));
+        Bean<?> normalScopedBean = null;
+        boolean resolvable = instance.isResolvable();
+        if (resolvable) {
+            Bean<?> bean = instance.getHandle().getBean();
+            if (container.getBeanManager().isNormalScope(bean.getScope())) {
+                normalScopedBean = bean;
+            }
+        }
+        return new ParameterResolutionPlan(container, qualifiers, instance, normalScopedBean, type, resolvable,
+                !resolvable && instance.isAmbiguous());
+    }
+
+    boolean isFor(WeldContainer container) {
+        return this.container == container;
+    }
+
+    boolean isSupported() {
+        return instance != null;
+    }
+
+    boolean isResolvable() {
+        return resolvable;
+    }
+
+    boolean isAmbiguous() {
+        return ambiguous;
+    }
+
+    List<Annotation> getQualifiers() {
+        return qualifiers;
+    }
+
+    Object resolve() {
+        if (normalScopedBean != null) {
+            // the client proxy is cached by the container, no need to go through the Instance
+            BeanManager beanManager = container.getBeanManager();
+            return beanManager.getReference(normalScopedBean, type, beanManager.createCreationalContext(normalScopedBean));
+        }
+        return instance.get();
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.TestInstance;
+
+/**
+ * An annotation used to enable the soft reset mode for test classes using the default
+ * {@link TestInstance.Lifecycle#PER_METHOD} lifecycle. When applied and set to {@code true}, the Weld container is only booted
+ * once per test class. Between test methods the container keeps running and only its state is reset:
+ * <ul>
+ * <li>the contexts activated via {@link WeldInitiator.Builder#activate(Class...)} are deactivated and activated again,</li>
+ * <li>all {@link ApplicationScoped} bean instances are destroyed,</li>
+ * <li>the dependent objects of the previous test instance are released and the new test instance is injected.</li>
+ * </ul>
+ * <p>
+ * The bean archive itself is never changed between test methods, so the {@link WeldInitiator} of each test instance is
+ * expected to describe the same deployment as the one used for the first test method. In the automagic mode, the test class
+ * bean is bound to the test instance of the first test method.
+ * </p>
+ *
+ * Soft reset can also be enabled globally via the {@value WeldJunit5Extension#GLOBAL_SOFT_RESET} system property.
+ *
+ * Nested classes inherit the behavior declared by their enclosing class but can re-declare this annotation along with the
+ * {@link #value()} parameter to override the behavior.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+@Inherited
+public @interface SoftReset {
+
+    /**
+     * If set to {@code true}, the container is booted once per test class and soft reset between test methods.
+     *
+     * @return {@code true} by default; can be explicitly set to {@code false} to restart the container for each test method
+     */
+    boolean value() default true;
+
+}
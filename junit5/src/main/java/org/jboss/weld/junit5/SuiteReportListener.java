@@ -0,0 +1,59 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.weld.junit.SuiteReport;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * A {@link TestExecutionListener} writing the {@link SuiteReport} once the test plan is finished. Nothing happens unless the
+ * report is enabled via the {@value SuiteReport#ENABLED} system property.
+ * <p>
+ * The listener is registered automatically via the {@link java.util.ServiceLoader} mechanism if the JUnit Platform Launcher
+ * is used to execute the tests.
+ * </p>
+ */
+public class SuiteReportListener implements TestExecutionListener {
+
+    private static final Logger LOGGER = Logger.getLogger(SuiteReportListener.class.getName());
+
+    // test plans may be executed recursively, e.g. from within a test, only the outermost one completes the suite
+    private static final AtomicInteger RUNNING_PLANS = new AtomicInteger();
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        RUNNING_PLANS.incrementAndGet();
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (RUNNING_PLANS.decrementAndGet() == 0 && SuiteReport.isEnabled()) {
+            try {
+                SuiteReport.getInstance().write();
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Unable to write the Weld testing report", e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * A {@link TestExecutionListener} recording the order of test classes of the currently executed {@link TestPlan}. The order
+ * is used to determine the next test class if the container prefetching is enabled.
+ * <p>
+ * Note that the prefetching loads and initializes the next test class on a background thread while the current test class is
+ * still executing, i.e. its static initializers run earlier and on a different thread than without prefetching. Only a static
+ * {@link WeldSetup} field declared on the next test class itself is used to prefetch the container.
+ * </p>
+ * <p>
+ * The listener is registered automatically via the {@link java.util.ServiceLoader} mechanism if the JUnit Platform Launcher
+ * is used to execute the tests.
+ * </p>
+ *
+ * @see WeldJunit5Extension#GLOBAL_PREFETCH
+ */
+public class TestClassOrderListener implements TestExecutionListener {
+
+    // test plans may be executed recursively, e.g. from within a test, the last one started is the current one
+    private static final Deque<TestClassOrder> PLANS = new ConcurrentLinkedDeque<>();
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        List<String> testClasses = new ArrayList<>();
+        for (TestIdentifier root : testPlan.getRoots()) {
+            collectTestClasses(testPlan, root, testClasses);
+        }
+        PLANS.push(new TestClassOrder(testPlan, testClasses));
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        PLANS.removeIf(order -> order.testPlan == testPlan);
+    }
+
+    /**
+     *
+     * @param testClassName
+     * @return the name of the test class executed after the given one or {@code null} if unknown
+     */
+    static String nextTestClass(String testClassName) {
+        TestClassOrder order = PLANS.peek();
+        if (order == null) {
+            return null;
+        }
+        int index = order.testClasses.indexOf(testClassName);
+        return index >= 0 && index < order.testClasses.size() - 1 ? order.testClasses.get(index + 1) : null;
+    }
+
+    private static void collectTestClasses(TestPlan testPlan, TestIdentifier identifier, List<String> testClasses) {
+        TestSource source = identifier.getSource().orElse(null);
+        if (source instanceof ClassSource) {
+            testClasses.add(((ClassSource) source).getClassName());
+        }
+        // children are returned in the execution order
+        for (TestIdentifier child : testPlan.getChildren(identifier)) {
+            collectTestClasses(testPlan, child, testClasses);
+        }
+    }
+
+    private static final class TestClassOrder {
+
+        private final TestPlan testPlan;
+
+        private final List<String> testClasses;
+
+        private TestClassOrder(TestPlan testPlan, List<String> testClasses) {
+            this.testPlan = testPlan;
+            this.testClasses = Collections.unmodifiableList(testClasses);
+        }
+
+    }
+
+}
@@ -20,6 +20,8 @@ import java.lang.annotation.Annotation;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
 
 import jakarta.enterprise.inject.spi.Bean;
@@ -29,6 +31,9 @@ import jakarta.enterprise.inject.spi.InjectionPoint;
 import org.jboss.weld.environment.se.Weld;
 import org.jboss.weld.environment.se.WeldContainer;
 import org.jboss.weld.junit.AbstractWeldInitiator;
+import org.jboss.weld.junit.ContainerShutdownExecutor;
+import org.jboss.weld.junit.PackageIndex;
+import org.jboss.weld.junit.WeldContainerPool;
 
 /**
  * JUnit 5 initiator - can be used to customize the Weld SE container started by {@link WeldJunit5Extension}.
@@ -120,7 +125,7 @@ public class WeldInitiator extends AbstractWeldInitiator {
                 weld.addBeanClass(clazz);
             }
         }
-        return from(weld);
+        return from(weld).withDeploymentClasses(beanClasses);
     }
 
     /**
@@ -178,6 +183,11 @@ public class WeldInitiator extends AbstractWeldInitiator {
             return this;
         }
 
+        // the protected method of AbstractBuilder is not accessible from WeldInitiator itself
+        private Builder withDeploymentClasses(Class<?>... beanClasses) {
+            return deploymentClasses(beanClasses);
+        }
+
         @Override
         protected WeldInitiator build(Weld weld, List<Object> instancesToInject,
                 Set<Class<? extends Annotation>> scopesToActivate, Set<Bean<?>> beans) {
@@ -196,23 +206,82 @@ public class WeldInitiator extends AbstractWeldInitiator {
                 persistenceContextFactory);
     }
 
+    // Test instances are only injected for the lifetime of a single container; an initiator stored in a static field is
+    // used by many test methods
+    private final List<ToInject> testInstancesToInject = new CopyOnWriteArrayList<>();
+
+    // Held by the test method using this initiator, see WeldJunit5Extension
+    final Semaphore testMethodLock = new Semaphore(1);
+
     void shutdownWeld() {
-        super.shutdownWeldContainer();
+        try {
+            super.shutdownWeldContainer();
+        } finally {
+            removeTestInstancesToInject();
+        }
+    }
+
+    void shutdownWeld(ContainerShutdownExecutor executor, String origin) {
+        try {
+            super.shutdownWeldContainer(executor, origin);
+        } finally {
+            removeTestInstancesToInject();
+        }
     }
 
     WeldContainer initWeld(Object testInstance) {
+        return initWeld(testInstance, null);
+    }
+
+    WeldContainer initWeld(Object testInstance, WeldContainerPool pool) {
         Weld weld = WeldInitiator.this.weld;
         if (weld == null) {
             // null in case of fromTestPackage() was used
-            weld = createWeld().addPackage(false, testInstance.getClass());
+            weld = PackageIndex.addPackage(createWeld(), false, testInstance.getClass());
         }
 
-        return initWeldContainer(weld);
+        return initWeldContainer(weld, pool, testInstance.getClass());
+    }
+
+    boolean prefetchWeld(Class<?> testClass, WeldContainerPool pool) {
+        Weld weld = WeldInitiator.this.weld;
+        if (weld == null) {
+            // null in case of fromTestPackage() was used
+            weld = PackageIndex.addPackage(createWeld(), false, testClass);
+        }
+        return prefetchWeldContainer(weld, pool, testClass);
+    }
+
+    WeldContainer initWeld(WeldInitiator owner) {
+        return initWeldContainer(owner);
+    }
+
+    void resetWeld() {
+        try {
+            super.resetWeldContainer();
+        } finally {
+            removeTestInstancesToInject();
+        }
+    }
+
+    boolean activateContextsForThread() {
+        return super.activateContextsForCurrentThread();
+    }
+
+    void deactivateContextsForThread() {
+        super.deactivateContextsForCurrentThread();
     }
 
     void addObjectsToInjectInto(Set<Object> instancesToInjectInto) {
         for (Object o : instancesToInjectInto) {
-            instancesToInject.add(createToInject(o));
+            ToInject toInject = createToInject(o);
+            testInstancesToInject.add(toInject);
+            instancesToInject.add(toInject);
         }
     }
+
+    private void removeTestInstancesToInject() {
+        instancesToInject.removeAll(testInstancesToInject);
+        testInstancesToInject.clear();
+    }
 }
@@ -17,25 +17,44 @@
 package org.jboss.weld.junit5;
 
 import static org.jboss.weld.junit5.ExtensionContextUtils.getContainerFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.getContainerPoolFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.getContainerPrefetcherFromStore;
 import static org.jboss.weld.junit5.ExtensionContextUtils.getEnrichersFromStore;
 import static org.jboss.weld.junit5.ExtensionContextUtils.getExplicitInjectionInfoFromStore;
 import static org.jboss.weld.junit5.ExtensionContextUtils.getInitiatorFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.getResolutionPlansFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.getShutdownExecutorFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.getSoftResetLockFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.getSoftResetOwnerFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.getTimingsFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.getTimingsListenersFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.lockForTestMethod;
+import static org.jboss.weld.junit5.ExtensionContextUtils.removeThreadContextsFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.removeTimingsFromStore;
 import static org.jboss.weld.junit5.ExtensionContextUtils.setContainerToStore;
-import static org.jboss.weld.junit5.ExtensionContextUtils.setEnrichersToStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.setEnrichersToStoreIfAbsent;
 import static org.jboss.weld.junit5.ExtensionContextUtils.setExplicitInjectionInfoToStore;
 import static org.jboss.weld.junit5.ExtensionContextUtils.setInitiatorToStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.setSoftResetOwnerToStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.setThreadContextsToStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.setTimingsListenersToStoreIfAbsent;
+import static org.jboss.weld.junit5.ExtensionContextUtils.shutdownIdleContainersInStore;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_METHOD;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.stream.Collectors;
@@ -43,7 +62,15 @@ import java.util.stream.Collectors;
 import jakarta.enterprise.inject.spi.BeanManager;
 
 import org.jboss.weld.environment.se.Weld;
-import org.jboss.weld.inject.WeldInstance;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.junit.BeanProfiler;
+import org.jboss.weld.junit.BeanStatistics;
+import org.jboss.weld.junit.LifecyclePhase;
+import org.jboss.weld.junit.LifecycleTimings;
+import org.jboss.weld.junit.PackageIndex;
+import org.jboss.weld.junit.SuiteReport;
+import org.jboss.weld.junit.WeldContainerPool;
+import org.jboss.weld.junit.jfr.WeldTestEvent;
 import org.jboss.weld.util.collections.ImmutableList;
 import org.junit.jupiter.api.RepetitionInfo;
 import org.junit.jupiter.api.TestInfo;
@@ -96,6 +123,76 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
     // global system property
     public static final String GLOBAL_EXPLICIT_PARAM_INJECTION = "org.jboss.weld.junit5.explicitParamInjection";
 
+    /**
+     * Global system property enabling the suite-wide container pool. The value is the maximum number of idle containers kept
+     * in the pool; the pool is disabled if the value is not a positive number. Only initiators whose deployment can be
+     * fingerprinted are pooled, i.e. initiators created via {@link WeldInitiator#of(Class...)},
+     * {@link WeldInitiator#from(Class...)}, {@link WeldInitiator#ofTestPackage()} or {@link WeldInitiator#fromTestPackage()}.
+     * <p>
+     * Note that idle containers keep running, i.e. {@link WeldContainer#current()} cannot determine the current container
+     * while the pool is enabled. If the property is unset again, e.g. by a test class which enabled the pool only for itself,
+     * the idle containers are shut down once that test class is finished.
+     * </p>
+     *
+     * @see WeldContainerPool
+     */
+    public static final String GLOBAL_CONTAINER_POOL_SIZE = "org.jboss.weld.junit5.containerPoolSize";
+
+    /**
+     * Global system property enabling the soft reset mode for all test classes using the
+     * {@link org.junit.jupiter.api.TestInstance.Lifecycle#PER_METHOD} lifecycle.
+     *
+     * @see SoftReset
+     */
+    public static final String GLOBAL_SOFT_RESET = "org.jboss.weld.junit5.softReset";
+
+    /**
+     * Global system property enabling the container prefetching. When a test class starts, the container of the next test
+     * class in the execution order is booted on a background thread and handed over via the container pool. If the pool size
+     * is not set via {@value #GLOBAL_CONTAINER_POOL_SIZE}, a pool with two containers is used.
+     * <p>
+     * Only test classes declaring a static {@link WeldSetup} field themselves with an initiator which can be pooled are
+     * prefetched. The next test class is initialized on the background thread, i.e. its static initializers run early.
+     * Moreover, the JUnit Platform Launcher must be used to execute the tests so that the order of test classes is known.
+     * </p>
+     *
+     * @see TestClassOrderListener
+     */
+    public static final String GLOBAL_PREFETCH = "org.jboss.weld.junit5.prefetch";
+
+    private static final int DEFAULT_PREFETCH_POOL_SIZE = 2;
+
+    /**
+     * Global system property enabling the asynchronous container shutdown. The value is the maximum number of background
+     * threads used to shut down containers; the asynchronous shutdown is disabled if the value is not a positive number.
+     * <p>
+     * Contexts are still deactivated and injected instances released when the test is finished, only the
+     * {@link org.jboss.weld.environment.se.WeldContainer#shutdown()} itself is performed in the background. All pending
+     * shutdowns are awaited at the end of the test suite which then fails if any of them failed.
+     * </p>
+     *
+     * @see org.jboss.weld.junit.ContainerShutdownExecutor
+     */
+    public static final String GLOBAL_ASYNC_SHUTDOWN_THREADS = "org.jboss.weld.junit5.asyncShutdownThreads";
+
+    /**
+     * Global system property enabling the parallel exploration of the class graph of the <b>automagic</b> class scanning
+     * performed by {@link org.jboss.weld.junit5.auto.WeldJunit5AutoExtension}. The reflective metadata of all reachable
+     * classes are collected using the common {@link java.util.concurrent.ForkJoinPool} first; the resulting deployment is
+     * identical to the one computed sequentially.
+     */
+    public static final String GLOBAL_PARALLEL_SCANNING = "org.jboss.weld.junit5.parallelScanning";
+
+    /**
+     * Global system property enabling the lifecycle timings. The time spent in each {@link LifecyclePhase} is published as a
+     * report entry of the test method, or of the test class if the
+     * {@link org.junit.jupiter.api.TestInstance.Lifecycle#PER_CLASS} lifecycle is used. The keys are prefixed with
+     * {@code weld.}, the values are in nanoseconds.
+     *
+     * @see LifecycleTimingsListener
+     */
+    public static final String GLOBAL_LIFECYCLE_TIMINGS = "org.jboss.weld.junit5.lifecycleTimings";
+
     private static void storeExplicitParamResolutionInformation(ExtensionContext ec) {
         // check system property which may have set the global explicit param injection
         boolean globalSettings = Boolean.parseBoolean(System.getProperty(GLOBAL_EXPLICIT_PARAM_INJECTION, "false"));
@@ -122,58 +219,121 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
         }
     }
 
+    private static boolean isSoftResetEnabled(ExtensionContext ec) {
+        if (Boolean.getBoolean(GLOBAL_SOFT_RESET)) {
+            return true;
+        }
+        // check class-level annotation, then enclosing classes in case of nested tests
+        for (Class<?> inspectedTestClass = ec.getRequiredTestClass(); inspectedTestClass != null; inspectedTestClass = inspectedTestClass
+                .getEnclosingClass()) {
+            SoftReset softReset = inspectedTestClass.getAnnotation(SoftReset.class);
+            if (softReset != null) {
+                return softReset.value();
+            }
+        }
+        return false;
+    }
+
     @Override
     public void beforeAll(ExtensionContext context) {
         // we are storing them into root context, hence only needs to be done once per test suite
-        if (getEnrichersFromStore(context) == null) {
+        setEnrichersToStoreIfAbsent(context, () -> {
             ImmutableList.Builder<WeldJunitEnricher> enrichers = ImmutableList.builder();
             ServiceLoader.load(WeldJunitEnricher.class).forEach(enrichers::add);
-            setEnrichersToStore(context, enrichers.build());
-        }
+            return enrichers.build();
+        });
+        setTimingsListenersToStoreIfAbsent(context, () -> {
+            ImmutableList.Builder<LifecycleTimingsListener> listeners = ImmutableList.builder();
+            ServiceLoader.load(LifecycleTimingsListener.class).forEach(listeners::add);
+            return listeners.build();
+        });
         // if the lifecycle is per-class, then we want to start container here
-        startWeldContainerIfAppropriate(PER_CLASS, context);
+        LifecycleTimings previousTimings = enterCallback(context);
+        try {
+            startWeldContainerIfAppropriate(PER_CLASS, context);
+        } finally {
+            exitCallback(previousTimings);
+        }
+        // overlap the execution of this test class with the bootstrap of the next one
+        if (Boolean.getBoolean(GLOBAL_PREFETCH)) {
+            getContainerPrefetcherFromStore(context, getContainerPool(context)).prefetchNext(context.getRequiredTestClass());
+        }
     }
 
     @Override
     public void beforeEach(ExtensionContext extensionContext) {
-        startWeldContainerIfAppropriate(PER_METHOD, extensionContext);
+        LifecycleTimings previousTimings = enterCallback(extensionContext);
+        try {
+            startWeldContainerIfAppropriate(PER_METHOD, extensionContext);
+            if (determineTestLifecycle(extensionContext).equals(PER_CLASS)) {
+                // the test methods of the class share the container but may be executed concurrently on other threads than
+                // the one which started the container; the custom contexts are thread-bound
+                WeldInitiator initiator = getInitiatorFromStore(extensionContext);
+                if (initiator != null && initiator.activateContextsForThread()) {
+                    setThreadContextsToStore(extensionContext, initiator);
+                }
+            }
+        } finally {
+            exitCallback(previousTimings);
+        }
     }
 
     @Override
     public void afterEach(ExtensionContext context) {
-        if (determineTestLifecycle(context).equals(PER_METHOD)) {
-            WeldInitiator initiator = getInitiatorFromStore(context);
-            if (initiator != null) {
-                initiator.shutdownWeld();
+        LifecycleTimings previousTimings = enterCallback(context);
+        try {
+            WeldInitiator threadContextsInitiator = removeThreadContextsFromStore(context);
+            if (threadContextsInitiator != null) {
+                threadContextsInitiator.deactivateContextsForThread();
             }
+            if (determineTestLifecycle(context).equals(PER_METHOD)) {
+                WeldInitiator initiator = getInitiatorFromStore(context);
+                if (initiator != null) {
+                    if (getSoftResetOwnerFromStore(context) != null) {
+                        // the container is shut down once the test class context is closed
+                        initiator.resetWeld();
+                    } else {
+                        shutdownWeld(context, initiator);
+                    }
+                }
+            }
+        } finally {
+            exitCallback(previousTimings);
+            reportTimings(context);
         }
     }
 
     @Override
     public void afterAll(ExtensionContext context) {
-        if (determineTestLifecycle(context).equals(PER_CLASS)) {
-            WeldInitiator initiator = getInitiatorFromStore(context);
-            if (initiator != null) {
-                initiator.shutdownWeld();
+        LifecycleTimings previousTimings = enterCallback(context);
+        try {
+            if (determineTestLifecycle(context).equals(PER_CLASS)) {
+                WeldInitiator initiator = getInitiatorFromStore(context);
+                if (initiator != null) {
+                    shutdownWeld(context, initiator);
+                }
             }
+            if (getContainerPoolSize() <= 0) {
+                // the pool may have been enabled for a single test class only
+                shutdownIdleContainersInStore(context);
+            }
+        } finally {
+            exitCallback(previousTimings);
+            reportTimings(context);
         }
     }
 
     protected void weldInit(ExtensionContext context, Weld weld, WeldInitiator.Builder weldInitiatorBuilder) {
-        weld.addPackage(false, context.getRequiredTestClass());
+        PackageIndex.addPackage(weld, false, context.getRequiredTestClass());
     }
 
     @Override
     public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext)
             throws ParameterResolutionException {
         // we did our checks in supportsParameter() method, now we can do simple resolution
-        if (getContainerFromStore(extensionContext) != null) {
-            List<Annotation> qualifiers = resolveQualifiers(parameterContext,
-                    getContainerFromStore(extensionContext).getBeanManager());
-            return getContainerFromStore(extensionContext)
-                    .select(parameterContext.getParameter().getParameterizedType(),
-                            qualifiers.toArray(new Annotation[qualifiers.size()]))
-                    .get();
+        WeldContainer container = getContainerFromStore(extensionContext);
+        if (container != null) {
+            return getResolutionPlan(parameterContext, extensionContext, container).resolve();
         }
         return null;
     }
@@ -186,35 +346,51 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
             return false;
         }
         // if weld container isn't up yet or if it's not Method, we don't resolve it
-        if (getContainerFromStore(extensionContext) == null
-                || (!(parameterContext.getDeclaringExecutable() instanceof Method))) {
+        WeldContainer container = getContainerFromStore(extensionContext);
+        if (container == null || (!(parameterContext.getDeclaringExecutable() instanceof Method))) {
             return false;
         }
-        List<Annotation> qualifiers = resolveQualifiers(parameterContext,
-                getContainerFromStore(extensionContext).getBeanManager());
-        // if we require explicit parameter injection (via global settings or annotation) and there are no qualifiers we don't resolve it
-        // if the method is annotated @ParameterizedTest, we treat it as explicit param injection and require qualifiers
-        if ((getExplicitInjectionInfoFromStore(extensionContext)
-                || methodRequiresExplicitParamInjection(parameterContext)
-                || methodIsParameterizedTest(parameterContext))
-                && qualifiers.isEmpty()) {
+        ParameterResolutionPlan plan = getResolutionPlan(parameterContext, extensionContext, container);
+        if (!plan.isSupported()) {
             return false;
-        } else {
-            // attempt to resolve the bean; at this point we know it should be a CDI bean since it has CDI qualifiers
-            // if resolution fails, throw an exception
-            WeldInstance<?> select = getContainerFromStore(extensionContext).select(
-                    parameterContext.getParameter().getParameterizedType(),
-                    qualifiers.toArray(new Annotation[qualifiers.size()]));
-            if (!select.isResolvable()) {
-                throw new ParameterResolutionException(String.format(
-                        "Weld has failed to resolve test parameter [%s] in method [%s].%n" +
-                                "%s dependency has type %s and qualifiers %s.",
-                        parameterContext.getParameter(), parameterContext.getDeclaringExecutable().toGenericString(),
-                        select.isAmbiguous() ? "Ambiguous" : "Unsatisfied",
-                        parameterContext.getParameter().getType().getName(), qualifiers));
+        }
+        // at this point we know it should be a CDI bean since it has CDI qualifiers
+        // if resolution fails, throw an exception
+        if (!plan.isResolvable()) {
+            throw new ParameterResolutionException(String.format(
+                    "Weld has failed to resolve test parameter [%s] in method [%s].%n" +
+                            "%s dependency has type %s and qualifiers %s.",
+                    parameterContext.getParameter(), parameterContext.getDeclaringExecutable().toGenericString(),
+                    plan.isAmbiguous() ? "Ambiguous" : "Unsatisfied",
+                    parameterContext.getParameter().getType().getName(), plan.getQualifiers()));
+        }
+        return true;
+    }
+
+    /**
+     * The plans are cached per test class and reused as long as the test methods use the same container, e.g. by repeated
+     * tests or if the container is shared by all test methods.
+     */
+    private ParameterResolutionPlan getResolutionPlan(ParameterContext parameterContext, ExtensionContext extensionContext,
+            WeldContainer container) {
+        Map<Parameter, ParameterResolutionPlan> plans = getResolutionPlansFromStore(extensionContext);
+        Parameter parameter = parameterContext.getParameter();
+        ParameterResolutionPlan plan = plans.get(parameter);
+        if (plan == null || !plan.isFor(container)) {
+            List<Annotation> qualifiers = resolveQualifiers(parameterContext, container.getBeanManager());
+            // if we require explicit parameter injection (via global settings or annotation) and there are no qualifiers we don't resolve it
+            // if the method is annotated @ParameterizedTest, we treat it as explicit param injection and require qualifiers
+            if ((getExplicitInjectionInfoFromStore(extensionContext)
+                    || methodRequiresExplicitParamInjection(parameterContext)
+                    || methodIsParameterizedTest(parameterContext))
+                    && qualifiers.isEmpty()) {
+                plan = ParameterResolutionPlan.unsupported(container, qualifiers);
+            } else {
+                plan = ParameterResolutionPlan.supported(container, parameter.getParameterizedType(), qualifiers);
             }
-            return true;
+            plans.put(parameter, plan);
         }
+        return plan;
     }
 
     /**
@@ -289,6 +465,14 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
                     .filter(Objects::nonNull)
                     .findFirst()
                     .orElseGet(() -> getDefaultInitiator(context, testInstance));
+            if (expectedLifecycle.equals(PER_METHOD)) {
+                // test methods executed concurrently must not share a container; the soft reset mode shares one container
+                // for the whole test class and an initiator may be shared if it's stored in a static field
+                if (isSoftResetEnabled(context)) {
+                    lockForTestMethod(context, getSoftResetLockFromStore(context));
+                }
+                lockForTestMethod(context, initiator.testMethodLock);
+            }
             setInitiatorToStore(context, initiator);
 
             // this ensures the test class is injected into
@@ -296,8 +480,112 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
             initiator.addObjectsToInjectInto(new HashSet<>(allTestInstances));
 
             // and finally, init Weld
-            setContainerToStore(context, initiator.initWeld(testInstance));
+            WeldContainerPool pool = getContainerPool(context);
+            if (pool != null && Boolean.getBoolean(GLOBAL_PREFETCH)) {
+                getContainerPrefetcherFromStore(context, pool).awaitPrefetch(context.getRequiredTestClass());
+            }
+            WeldContainer container;
+            if (expectedLifecycle.equals(PER_METHOD) && isSoftResetEnabled(context)) {
+                WeldInitiator owner = getSoftResetOwnerFromStore(context);
+                if (owner != null && owner.isRunning()) {
+                    container = initiator.initWeld(owner);
+                } else {
+                    container = initiator.initWeld(testInstance, pool);
+                    setSoftResetOwnerToStore(context, initiator);
+                }
+            } else {
+                container = initiator.initWeld(testInstance, pool);
+            }
+            setContainerToStore(context, container);
+        }
+    }
+
+    private static boolean isTimingEnabled(ExtensionContext context) {
+        if (Boolean.getBoolean(GLOBAL_LIFECYCLE_TIMINGS) || SuiteReport.isEnabled() || BeanProfiler.isEnabled()) {
+            return true;
+        }
+        List<LifecycleTimingsListener> listeners = getTimingsListenersFromStore(context);
+        return listeners != null && !listeners.isEmpty();
+    }
+
+    /**
+     * Sets the test described by the given context as the current test of the JFR events and binds the timings of the given
+     * context to the current thread if the timings are enabled.
+     *
+     * @return the timings bound to the current thread before
+     */
+    private static LifecycleTimings enterCallback(ExtensionContext context) {
+        WeldTestEvent.setCurrentTest(context.getTestClass().map(Class::getName).orElse(null),
+                context.getTestMethod().map(Method::getName).orElse(null));
+        LifecycleTimings previous = LifecycleTimings.current();
+        if (isTimingEnabled(context)) {
+            LifecycleTimings.setCurrent(getTimingsFromStore(context));
+        }
+        return previous;
+    }
+
+    private static void exitCallback(LifecycleTimings previousTimings) {
+        LifecycleTimings.setCurrent(previousTimings);
+        WeldTestEvent.clearCurrentTest();
+    }
+
+    private static void reportTimings(ExtensionContext context) {
+        LifecycleTimings timings = removeTimingsFromStore(context);
+        if (timings == null || timings.isEmpty()) {
+            return;
+        }
+        if (Boolean.getBoolean(GLOBAL_LIFECYCLE_TIMINGS)) {
+            Map<String, String> entry = new LinkedHashMap<>();
+            for (Map.Entry<LifecyclePhase, Long> phase : timings.getNanos().entrySet()) {
+                entry.put("weld." + phase.getKey().name().toLowerCase(Locale.ROOT), phase.getValue().toString());
+            }
+            context.publishReportEntry(entry);
+        }
+        List<BeanStatistics> beanStatistics = timings.getBeanStatistics();
+        if (!beanStatistics.isEmpty()) {
+            Map<String, String> entry = new LinkedHashMap<>();
+            for (BeanStatistics bean : beanStatistics) {
+                entry.put("weld.bean." + bean.getBean(), bean.toString());
+            }
+            context.publishReportEntry(entry);
+        }
+        if (SuiteReport.isEnabled()) {
+            SuiteReport.getInstance().add(context.getRequiredTestClass().getName(),
+                    context.getTestMethod().map(Method::getName).orElse(null), timings);
+        }
+        List<LifecycleTimingsListener> listeners = getTimingsListenersFromStore(context);
+        if (listeners != null) {
+            for (LifecycleTimingsListener listener : listeners) {
+                listener.timingsMeasured(context, timings);
+            }
+        }
+    }
+
+    private void shutdownWeld(ExtensionContext context, WeldInitiator initiator) {
+        int threads = Integer.getInteger(GLOBAL_ASYNC_SHUTDOWN_THREADS, 0);
+        if (threads > 0) {
+            initiator.shutdownWeld(getShutdownExecutorFromStore(context, threads), context.getUniqueId());
+        } else {
+            initiator.shutdownWeld();
+        }
+    }
+
+    private WeldContainerPool getContainerPool(ExtensionContext context) {
+        int poolSize = getContainerPoolSize();
+        if (poolSize > 0) {
+            return getContainerPoolFromStore(context, poolSize);
+        }
+        // containers prefetched or released after the pool was disabled
+        shutdownIdleContainersInStore(context);
+        return null;
+    }
+
+    private static int getContainerPoolSize() {
+        int poolSize = Integer.getInteger(GLOBAL_CONTAINER_POOL_SIZE, 0);
+        if (poolSize <= 0 && Boolean.getBoolean(GLOBAL_PREFETCH)) {
+            poolSize = DEFAULT_PREFETCH_POOL_SIZE;
         }
+        return poolSize;
     }
 
     private WeldInitiator findInitiatorInInstance(Object testInstance) {
@@ -361,15 +649,19 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
         Weld weld = WeldInitiator.createWeld();
         WeldInitiator.Builder builder = WeldInitiator.from(weld);
 
+        long start = System.nanoTime();
         weldInit(context, weld, builder);
+        LifecycleTimings.record(LifecyclePhase.SCANNING, start);
 
         // Apply discovered enrichers
+        start = System.nanoTime();
         for (WeldJunitEnricher enricher : getEnrichersFromStore(context)) {
             String property = System.getProperty(enricher.getClass().getName());
             if (property == null || Boolean.parseBoolean(property)) {
                 enricher.enrich(testInstance, context, weld, builder);
             }
         }
+        LifecycleTimings.record(LifecyclePhase.ENRICHMENT, start);
 
         return builder.build();
     }
@@ -0,0 +1,256 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.auto;
+
+import static java.util.Arrays.stream;
+import static org.junit.platform.commons.support.AnnotationSupport.isAnnotated;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jakarta.decorator.Decorator;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.NormalScope;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.Stereotype;
+import jakarta.enterprise.inject.spi.Extension;
+import jakarta.inject.Inject;
+import jakarta.inject.Qualifier;
+import jakarta.interceptor.Interceptor;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+
+/**
+ * The reflective metadata of a single class needed by {@link ClassScanning}.
+ * <p>
+ * The fields, methods and constructors of the class hierarchy are traversed only once. The metadata are memoized for the
+ * lifetime of the class and shared by all test classes, i.e. a class reachable from many test classes is only introspected
+ * once per JVM.
+ * </p>
+ */
+final class ClassMetadata {
+
+    private static final List<Class<? extends Annotation>> TEST_METHOD_ANNOTATIONS = List.of(Test.class,
+            RepeatedTest.class, BeforeAll.class, BeforeEach.class, AfterEach.class, AfterAll.class);
+
+    // ClassValue does not prevent the classes (and their class loaders) from being garbage collected
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    static ClassMetadata of(Class<?> clazz) {
+        return METADATA.get(clazz);
+    }
+
+    final List<Class<?>> excludedBeanTypes;
+
+    // The classes referenced by injection points, producers and test methods; the order matches the former scanning order:
+    // injected fields in the order of ReflectionSupport.findFields() (deterministic, but not the declaration order), then
+    // initializer methods, the @Inject constructor, producers, test methods and lifecycle methods
+    private final List<Class<?>> requiredClasses;
+
+    // Same as requiredClasses but parameters without a qualifier are omitted
+    private final List<Class<?>> explicitlyRequiredClasses;
+
+    final List<AddPackages> packages;
+
+    final List<Class<?>> beanClasses;
+
+    final List<Class<? extends Extension>> extensions;
+
+    final List<Class<?>> interceptors;
+
+    final List<Class<?>> decorators;
+
+    final List<Class<?>> alternatives;
+
+    final List<Class<? extends Annotation>> alternativeStereotypes;
+
+    final List<Class<?>> excludedBeanClasses;
+
+    final SetBeanDiscoveryMode beanDiscoveryMode;
+
+    final boolean beanDefining;
+
+    private ClassMetadata(Class<?> clazz) {
+        List<Class<?>> excludedBeanTypes = new ArrayList<>();
+        List<Class<?>> injectedFieldTypes = new ArrayList<>();
+        for (Field field : ReflectionSupport.findFields(clazz, candidate -> true, HierarchyTraversalMode.TOP_DOWN)) {
+            if (isAnnotated(field, ExcludeBean.class)) {
+                excludedBeanTypes.add(field.getType());
+            }
+            if (isAnnotated(field, Inject.class)) {
+                injectedFieldTypes.add(unwrapInstanceTypeParameter(field));
+            }
+        }
+
+        List<Method> injectMethods = new ArrayList<>();
+        List<List<Method>> testMethods = new ArrayList<>();
+        TEST_METHOD_ANNOTATIONS.forEach(annotation -> testMethods.add(new ArrayList<>()));
+        for (Method method : ReflectionSupport.findMethods(clazz, candidate -> true, HierarchyTraversalMode.BOTTOM_UP)) {
+            if (isAnnotated(method, ExcludeBean.class)) {
+                excludedBeanTypes.add(method.getReturnType());
+            }
+            if (isAnnotated(method, Inject.class)) {
+                injectMethods.add(method);
+            }
+            for (int i = 0; i < TEST_METHOD_ANNOTATIONS.size(); i++) {
+                if (isAnnotated(method, TEST_METHOD_ANNOTATIONS.get(i))) {
+                    testMethods.get(i).add(method);
+                }
+            }
+        }
+        this.excludedBeanTypes = Collections.unmodifiableList(excludedBeanTypes);
+
+        List<Class<?>> requiredClasses = new ArrayList<>();
+        List<Class<?>> explicitlyRequiredClasses = new ArrayList<>();
+        Requirements requirements = new Requirements(requiredClasses, explicitlyRequiredClasses);
+
+        injectedFieldTypes.forEach(requirements::add);
+        injectMethods.forEach(requirements::addParameters);
+
+        Constructor<?> constructor = findFirstInjectConstructor(clazz);
+        if (constructor != null) {
+            requirements.addParameters(constructor);
+        }
+
+        for (Field field : clazz.getDeclaredFields()) {
+            if (isAnnotated(field, Produces.class)) {
+                requirements.add(field.getType());
+            }
+        }
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (isAnnotated(method, Produces.class)) {
+                requirements.addParameters(method);
+                requirements.add(method.getReturnType());
+            }
+        }
+
+        testMethods.forEach(methods -> methods.forEach(requirements::addParameters));
+
+        this.requiredClasses = Collections.unmodifiableList(requiredClasses);
+        this.explicitlyRequiredClasses = Collections.unmodifiableList(explicitlyRequiredClasses);
+
+        this.packages = AnnotationSupport.findRepeatableAnnotations(clazz, AddPackages.class);
+        this.beanClasses = values(clazz, AddBeanClasses.class, AddBeanClasses::value);
+        this.extensions = values(clazz, AddExtensions.class, AddExtensions::value);
+        this.interceptors = values(clazz, AddEnabledInterceptors.class, AddEnabledInterceptors::value);
+        this.decorators = values(clazz, AddEnabledDecorators.class, AddEnabledDecorators::value);
+        this.alternatives = values(clazz, EnableAlternatives.class, EnableAlternatives::value);
+        this.alternativeStereotypes = values(clazz, EnableAlternativeStereotypes.class, EnableAlternativeStereotypes::value);
+        this.excludedBeanClasses = values(clazz, ExcludeBeanClasses.class, ExcludeBeanClasses::value);
+        this.beanDiscoveryMode = AnnotationSupport.findAnnotation(clazz, SetBeanDiscoveryMode.class).orElse(null);
+
+        this.beanDefining = isAnnotated(clazz, NormalScope.class) || isAnnotated(clazz, Dependent.class) ||
+                isAnnotated(clazz, Interceptor.class) || isAnnotated(clazz, Decorator.class) ||
+                isAnnotated(clazz, Stereotype.class);
+    }
+
+    List<Class<?>> getRequiredClasses(boolean explicitInjection) {
+        return explicitInjection ? explicitlyRequiredClasses : requiredClasses;
+    }
+
+    private static <A extends Annotation, T> List<T> values(Class<?> clazz, Class<A> annotationType,
+            Function<A, T[]> value) {
+        List<T> values = AnnotationSupport.findRepeatableAnnotations(clazz, annotationType).stream()
+                .flatMap(ann -> stream(value.apply(ann)))
+                .distinct()
+                .collect(Collectors.toList());
+        return values.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(values);
+    }
+
+    private static Constructor<?> findFirstInjectConstructor(Class<?> clazz) {
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            for (Constructor<?> constructor : current.getDeclaredConstructors()) {
+                if (isAnnotated(constructor, Inject.class)) {
+                    return constructor;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> unwrapInstanceTypeParameter(Field field) {
+        Class<?> type = field.getType();
+        if (type.equals(Instance.class)) {
+            ParameterizedType parameterizedType = (ParameterizedType) field.getGenericType();
+            Type typeParameter = parameterizedType.getActualTypeArguments()[0];
+            if (typeParameter instanceof ParameterizedType) {
+                type = (Class<?>) ((ParameterizedType) typeParameter).getRawType();
+            } else {
+                type = (Class<?>) typeParameter;
+            }
+        }
+        return type;
+    }
+
+    private static boolean isBeanParameterAnnotation(Annotation ann) {
+        return isAnnotated(ann.annotationType(), Qualifier.class);
+    }
+
+    private static final class Requirements {
+
+        private final List<Class<?>> all;
+
+        private final List<Class<?>> explicit;
+
+        private Requirements(List<Class<?>> all, List<Class<?>> explicit) {
+            this.all = all;
+            this.explicit = explicit;
+        }
+
+        void add(Class<?> clazz) {
+            all.add(clazz);
+            explicit.add(clazz);
+        }
+
+        void addParameters(Executable executable) {
+            Annotation[][] paramAnns = executable.getParameterAnnotations();
+            Class<?>[] paramTypes = executable.getParameterTypes();
+            for (int c = 0; c < paramTypes.length; ++c) {
+                all.add(paramTypes[c]);
+                if (c < paramAnns.length && stream(paramAnns[c]).anyMatch(ClassMetadata::isBeanParameterAnnotation)) {
+                    explicit.add(paramTypes[c]);
+                }
+            }
+        }
+
+    }
+
+}
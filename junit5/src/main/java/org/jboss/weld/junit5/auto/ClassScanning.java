@@ -16,49 +16,25 @@
  */
 package org.jboss.weld.junit5.auto;
 
-import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
-import static org.junit.platform.commons.support.AnnotationSupport.isAnnotated;
-
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Executable;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import jakarta.decorator.Decorator;
-import jakarta.enterprise.context.Dependent;
-import jakarta.enterprise.context.NormalScope;
-import jakarta.enterprise.inject.Instance;
-import jakarta.enterprise.inject.Produces;
-import jakarta.enterprise.inject.Stereotype;
-import jakarta.enterprise.inject.spi.Extension;
-import jakarta.inject.Inject;
-import jakarta.inject.Qualifier;
-import jakarta.interceptor.Interceptor;
-
 import org.jboss.weld.environment.se.Weld;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.BeforeAll;
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.RepeatedTest;
-import org.junit.jupiter.api.Test;
-import org.junit.platform.commons.support.AnnotationSupport;
-import org.junit.platform.commons.support.HierarchyTraversalMode;
-import org.junit.platform.commons.util.CollectionUtils;
-import org.junit.platform.commons.util.Preconditions;
+import org.jboss.weld.junit.ClassScanningCache;
+import org.jboss.weld.junit.ScanIndex;
+import org.jboss.weld.junit.ScanResult;
+import org.jboss.weld.junit.jfr.ClassScanningEvent;
+import org.jboss.weld.junit5.WeldJunit5Extension;
 
 /**
  * Provides <b>automagic</b> bean class discovery for a test class instance.
@@ -67,290 +43,153 @@ class ClassScanning {
 
     static void scanForRequiredBeanClasses(List<Class<?>> testClasses, Weld weld, boolean explicitInjection) {
 
-        List<Class<?>> classesToProcess = new ArrayList<>();
-        classesToProcess.addAll(testClasses);
-
-        Set<Class<?>> foundClasses = new HashSet<>();
-        Set<Type> excludedBeanTypes = new HashSet<>();
-        Set<Class<?>> excludedBeanClasses = new HashSet<>();
-        boolean syntheticArchiveDiscoverySet = false;
-
-        while (!classesToProcess.isEmpty()) {
+        ClassScanningEvent event = new ClassScanningEvent();
+        event.begin();
 
-            Class<?> currClass = classesToProcess.remove(0);
-
-            if (foundClasses.contains(currClass) ||
-                    excludedBeanTypes.contains(currClass) || excludedBeanClasses.contains(currClass) ||
-                    currClass.isPrimitive() || currClass.isSynthetic() ||
-                    currClass.getName().startsWith("java") || currClass.getName().startsWith("sun")) {
-                continue;
-            }
+        // The compile-time index only covers a single test class, nested test classes are scanned together with the
+        // enclosing classes
+        ScanResult result = testClasses.size() == 1 ? ScanIndex.find(testClasses.get(0), explicitInjection) : null;
+        if (result == null) {
+            result = ClassScanningCache.getOrCompute(testClasses, explicitInjection,
+                    () -> scan(testClasses, explicitInjection));
+        }
 
-            foundClasses.add(currClass);
+        ClassLoader classLoader = testClasses.get(0).getClassLoader();
+        result.applyTo(weld, classLoader);
+        weld.addExtension(new ExcludedBeansExtension(result.getExcludedBeanTypes(classLoader),
+                result.getExcludedBeanClasses(classLoader)));
 
-            AnnotationSupport.findAnnotatedFields(currClass, ExcludeBean.class).stream()
-                    .map(Field::getType)
-                    .forEach(excludedBeanTypes::add);
+        event.end();
+        if (event.shouldCommit()) {
+            event.describeCurrentTest();
+            event.beanCount = result.getBeanClassCount();
+            event.commit();
+        }
+    }
 
-            AnnotationSupport.findAnnotatedMethods(currClass, ExcludeBean.class, HierarchyTraversalMode.BOTTOM_UP).stream()
-                    .map(Method::getReturnType)
-                    .forEach(excludedBeanTypes::add);
+    static ScanResult scan(List<Class<?>> testClasses, boolean explicitInjection) {
 
-            AnnotationSupport.findAnnotatedFields(currClass, Inject.class).stream()
-                    .map(ClassScanning::unwrapInstanceTypeParameter)
-                    .forEach(cls -> addClassesToProcess(classesToProcess, cls));
+        if (Boolean.getBoolean(WeldJunit5Extension.GLOBAL_PARALLEL_SCANNING)) {
+            // The expensive reflection is done in parallel, the traversal below then only replays the memoized metadata so
+            // that exclusions and the first-wins discovery mode are resolved exactly as in the sequential case
+            exploreInParallel(testClasses, explicitInjection);
+        }
 
-            AnnotationSupport.findAnnotatedMethods(currClass, Inject.class, HierarchyTraversalMode.BOTTOM_UP).stream()
-                    .flatMap(method -> getExecutableParameterTypes(method, explicitInjection).stream())
-                    .forEach(cls -> addClassesToProcess(classesToProcess, cls));
+        ScanResult.Builder result = ScanResult.builder();
 
-            findFirstAnnotatedConstructor(currClass, Inject.class)
-                    .map(Stream::of).orElseGet(Stream::empty)
-                    .flatMap(cons -> getExecutableParameterTypes(cons, explicitInjection).stream())
-                    .forEach(cls -> addClassesToProcess(classesToProcess, cls));
+        Deque<Class<?>> classesToProcess = new ArrayDeque<>(testClasses);
 
-            findAnnotatedDeclaredFields(currClass, Produces.class).stream()
-                    .map(Field::getType)
-                    .forEach(cls -> addClassesToProcess(classesToProcess, cls));
+        Set<Class<?>> foundClasses = new LinkedHashSet<>();
+        Set<Class<?>> excludedBeanTypes = new LinkedHashSet<>();
+        Set<Class<?>> excludedBeanClasses = new LinkedHashSet<>();
 
-            findAnnotatedDeclaredMethods(currClass, Produces.class).stream()
-                    .flatMap(method -> Stream.concat(
-                            getExecutableParameterTypes(method, explicitInjection).stream(),
-                            Stream.of(method.getReturnType())))
-                    .forEach(cls -> addClassesToProcess(classesToProcess, cls));
+        while (!classesToProcess.isEmpty()) {
 
-            AnnotationSupport.findAnnotatedMethods(currClass, Test.class, HierarchyTraversalMode.BOTTOM_UP).stream()
-                    .flatMap(method -> getExecutableParameterTypes(method, explicitInjection).stream())
-                    .forEach(cls -> addClassesToProcess(classesToProcess, cls));
+            Class<?> currClass = classesToProcess.poll();
 
-            AnnotationSupport.findAnnotatedMethods(currClass, RepeatedTest.class, HierarchyTraversalMode.BOTTOM_UP).stream()
-                    .flatMap(method -> getExecutableParameterTypes(method, explicitInjection).stream())
-                    .forEach(cls -> addClassesToProcess(classesToProcess, cls));
+            if (foundClasses.contains(currClass) ||
+                    excludedBeanTypes.contains(currClass) || excludedBeanClasses.contains(currClass) ||
+                    isIgnored(currClass)) {
+                continue;
+            }
 
-            AnnotationSupport.findAnnotatedMethods(currClass, BeforeAll.class, HierarchyTraversalMode.BOTTOM_UP).stream()
-                    .flatMap(method -> getExecutableParameterTypes(method, explicitInjection).stream())
-                    .forEach(cls -> addClassesToProcess(classesToProcess, cls));
+            foundClasses.add(currClass);
+            result.visit(currClass);
 
-            AnnotationSupport.findAnnotatedMethods(currClass, BeforeEach.class, HierarchyTraversalMode.BOTTOM_UP).stream()
-                    .flatMap(method -> getExecutableParameterTypes(method, explicitInjection).stream())
-                    .forEach(cls -> addClassesToProcess(classesToProcess, cls));
+            ClassMetadata metadata = ClassMetadata.of(currClass);
 
-            AnnotationSupport.findAnnotatedMethods(currClass, AfterEach.class, HierarchyTraversalMode.BOTTOM_UP).stream()
-                    .flatMap(method -> getExecutableParameterTypes(method, explicitInjection).stream())
-                    .forEach(cls -> addClassesToProcess(classesToProcess, cls));
+            excludedBeanTypes.addAll(metadata.excludedBeanTypes);
 
-            AnnotationSupport.findAnnotatedMethods(currClass, AfterAll.class, HierarchyTraversalMode.BOTTOM_UP).stream()
-                    .flatMap(method -> getExecutableParameterTypes(method, explicitInjection).stream())
-                    .forEach(cls -> addClassesToProcess(classesToProcess, cls));
+            classesToProcess.addAll(metadata.getRequiredClasses(explicitInjection));
 
-            AnnotationSupport.findRepeatableAnnotations(currClass, AddPackages.class)
+            metadata.packages
                     .forEach(ann -> stream(ann.value())
                             .distinct()
-                            .forEach(cls -> weld.addPackage(ann.recursively(), cls)));
+                            .forEach(cls -> result.addPackage(ann.recursively(), cls)));
 
-            AnnotationSupport.findRepeatableAnnotations(currClass, AddBeanClasses.class).stream()
-                    .flatMap(ann -> stream(ann.value()))
-                    .distinct()
+            metadata.beanClasses
                     .forEach(it -> {
                         classesToProcess.add(it);
-                        weld.addBeanClass(it);
+                        result.addBeanClass(it);
                     });
 
-            AnnotationSupport.findRepeatableAnnotations(currClass, AddExtensions.class).stream()
-                    .flatMap(ann -> stream(ann.value()))
-                    .distinct()
-                    .map(ClassScanning::createExtension)
-                    .forEach(weld::addExtension);
+            metadata.extensions
+                    .forEach(result::addExtension);
 
-            AnnotationSupport.findRepeatableAnnotations(currClass, AddEnabledInterceptors.class).stream()
-                    .flatMap(ann -> stream(ann.value()))
-                    .distinct()
+            metadata.interceptors
                     .forEach(interceptor -> {
                         classesToProcess.add(interceptor);
-                        weld.addInterceptor(interceptor);
-                        weld.addBeanClass(interceptor);
+                        result.addInterceptor(interceptor);
+                        result.addBeanClass(interceptor);
                     });
 
-            AnnotationSupport.findRepeatableAnnotations(currClass, AddEnabledDecorators.class).stream()
-                    .flatMap(ann -> stream(ann.value()))
-                    .distinct()
+            metadata.decorators
                     .forEach(decorator -> {
                         classesToProcess.add(decorator);
-                        weld.addDecorator(decorator);
-                        weld.addBeanClass(decorator);
+                        result.addDecorator(decorator);
+                        result.addBeanClass(decorator);
                     });
 
-            AnnotationSupport.findRepeatableAnnotations(currClass, EnableAlternatives.class).stream()
-                    .flatMap(ann -> stream(ann.value()))
-                    .distinct()
-                    .forEach(weld::addAlternative);
+            metadata.alternatives
+                    .forEach(result::addAlternative);
 
-            AnnotationSupport.findRepeatableAnnotations(currClass, EnableAlternativeStereotypes.class).stream()
-                    .flatMap(ann -> stream(ann.value()))
-                    .distinct()
-                    .forEach(weld::addAlternativeStereotype);
+            metadata.alternativeStereotypes
+                    .forEach(result::addAlternativeStereotype);
 
-            AnnotationSupport.findRepeatableAnnotations(currClass, ExcludeBeanClasses.class).stream()
-                    .flatMap(ann -> stream(ann.value()))
-                    .distinct()
-                    .forEach(excludedBeanClasses::add);
+            excludedBeanClasses.addAll(metadata.excludedBeanClasses);
 
             // discovery mode can only be set once; we use the first annotation we find
-            if (!syntheticArchiveDiscoverySet) {
-                Optional<SetBeanDiscoveryMode> annotation = AnnotationSupport.findAnnotation(currClass,
-                        SetBeanDiscoveryMode.class);
-                if (annotation.isPresent()) {
-                    syntheticArchiveDiscoverySet = true;
-                    weld.setBeanDiscoveryMode(annotation.get().value());
-                }
+            if (!result.hasBeanDiscoveryMode() && metadata.beanDiscoveryMode != null) {
+                result.setBeanDiscoveryMode(metadata.beanDiscoveryMode.value());
             }
 
         }
 
         for (Class<?> foundClass : foundClasses) {
-            if (hasBeanDefiningAnnotation(foundClass)) {
-                weld.addBeanClass(foundClass);
+            if (ClassMetadata.of(foundClass).beanDefining) {
+                result.addBeanClass(foundClass);
             }
         }
 
-        weld.addExtension(new ExcludedBeansExtension(excludedBeanTypes, excludedBeanClasses));
-    }
-
-    private static void addClassesToProcess(Collection<Class<?>> classesToProcess, Type type) {
-
-        if (type instanceof Class) {
-
-            classesToProcess.add((Class<?>) type);
-        } else if (type instanceof ParameterizedType) {
-
-            ParameterizedType ptype = (ParameterizedType) type;
-
-            classesToProcess.add((Class<?>) ptype.getRawType());
-
-            for (Type arg : ptype.getActualTypeArguments()) {
-                addClassesToProcess(classesToProcess, arg);
-            }
-
-        }
+        excludedBeanTypes.forEach(result::excludeBeanType);
+        excludedBeanClasses.forEach(result::excludeBeanClass);
 
+        return result.build();
     }
 
-    private static List<Class<?>> getExecutableParameterTypes(Executable executable, boolean explicitInjection) {
-
-        List<Class<?>> types = new ArrayList<>();
-
-        if (explicitInjection) {
-            Annotation[][] paramAnns = executable.getParameterAnnotations();
-            Class<?>[] paramTypes = executable.getParameterTypes();
-            for (int c = 0; c < paramTypes.length; ++c) {
-                if (stream(paramAnns[c]).anyMatch(ClassScanning::isBeanParameterAnnotation)) {
-                    types.add(paramTypes[c]);
-                }
-            }
-        } else {
-            types.addAll(asList(executable.getParameterTypes()));
+    /**
+     * Computes the metadata of all classes reachable from the test classes using a level-by-level fork/join traversal. The
+     * exclusions are not taken into account, i.e. the metadata of some classes may be computed even if they end up excluded.
+     */
+    private static void exploreInParallel(List<Class<?>> testClasses, boolean explicitInjection) {
+        Set<Class<?>> visited = ConcurrentHashMap.newKeySet();
+        List<Class<?>> frontier = testClasses.stream()
+                .filter(clazz -> !isIgnored(clazz) && visited.add(clazz))
+                .collect(Collectors.toList());
+        while (!frontier.isEmpty()) {
+            List<Class<?>> current = frontier;
+            frontier = ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> current.parallelStream()
+                    .flatMap(clazz -> successors(clazz, explicitInjection))
+                    .filter(clazz -> !isIgnored(clazz) && visited.add(clazz))
+                    .collect(Collectors.toList())));
         }
-
-        return types;
     }
 
-    private static Extension createExtension(Class<? extends Extension> clazz) {
+    private static Stream<Class<?>> successors(Class<?> clazz, boolean explicitInjection) {
+        ClassMetadata metadata;
         try {
-            return clazz.getDeclaredConstructor().newInstance();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private static boolean isBeanParameterAnnotation(Annotation ann) {
-        return isAnnotated(ann.annotationType(), Qualifier.class);
-    }
-
-    private static boolean hasBeanDefiningAnnotation(Class<?> clazz) {
-        return isAnnotated(clazz, NormalScope.class) || isAnnotated(clazz, Dependent.class) ||
-                isAnnotated(clazz, Interceptor.class) || isAnnotated(clazz, Decorator.class) ||
-                isAnnotated(clazz, Stereotype.class);
-    }
-
-    private static List<Field> findAllFieldsInHierarchy(Class<?> clazz) {
-        Preconditions.notNull(clazz, "Class must not be null");
-        List<Field> localFields = getDeclaredFields(clazz).stream().filter((field) -> !field.isSynthetic())
-                .collect(Collectors.toList());
-        List<Field> superclassFields = getSuperclassFields(clazz).stream()
-                .filter((field) -> !isMethodShadowedByLocalFields(field, localFields))
-                .collect(Collectors.toList());
-        List<Field> methods = new ArrayList<>();
-        methods.addAll(superclassFields);
-        methods.addAll(localFields);
-
-        return methods;
-    }
-
-    private static List<Field> getSuperclassFields(Class<?> clazz) {
-        Class<?> superclass = clazz.getSuperclass();
-        return superclass != null && superclass != Object.class ? findAllFieldsInHierarchy(superclass)
-                : Collections.emptyList();
-    }
-
-    private static List<Field> getDeclaredFields(Class<?> clazz) {
-        return asList(clazz.getDeclaredFields());
-    }
-
-    private static List<Method> getDeclaredMethods(Class<?> clazz) {
-        return asList(clazz.getDeclaredMethods());
-    }
-
-    private static boolean isMethodShadowedByLocalFields(Field field, List<Field> localFields) {
-        return localFields.stream()
-                .anyMatch((local) -> isFieldShadowedBy(field, local));
-    }
-
-    private static boolean isFieldShadowedBy(Field upper, Field lower) {
-        return upper.getType().equals(lower.getType());
-    }
-
-    private static List<Field> findAnnotatedDeclaredFields(Class<?> clazz, Class<? extends Annotation> annotationType) {
-        return getDeclaredFields(clazz).stream()
-                .filter((field) -> isAnnotated(field, annotationType))
-                .collect(CollectionUtils.toUnmodifiableList());
-    }
-
-    private static List<Method> findAnnotatedDeclaredMethods(Class<?> clazz, Class<? extends Annotation> annotationType) {
-        return getDeclaredMethods(clazz).stream()
-                .filter((field) -> isAnnotated(field, annotationType))
-                .collect(CollectionUtils.toUnmodifiableList());
-    }
-
-    private static List<Constructor<?>> getDeclaredConstructors(Class<?> clazz) {
-        return asList(clazz.getDeclaredConstructors());
-    }
-
-    private static Optional<Constructor<?>> findFirstAnnotatedConstructor(Class<?> clazz,
-            Class<? extends Annotation> annotationType) {
-
-        Optional<Constructor<?>> found = getDeclaredConstructors(clazz).stream()
-                .filter((cons) -> isAnnotated(cons, annotationType))
-                .findFirst();
-
-        if (found.isPresent() || clazz.getSuperclass() == null) {
-            return found;
+            metadata = ClassMetadata.of(clazz);
+        } catch (RuntimeException | LinkageError e) {
+            // Not memoized; reported by the sequential traversal if the class is not excluded
+            return Stream.empty();
         }
-
-        return findFirstAnnotatedConstructor(clazz.getSuperclass(), annotationType);
+        return Stream.of(metadata.getRequiredClasses(explicitInjection), metadata.beanClasses, metadata.interceptors,
+                metadata.decorators).flatMap(List::stream);
     }
 
-    private static Class<?> unwrapInstanceTypeParameter(Field field) {
-        Class<?> type = field.getType();
-        if (type.equals(Instance.class)) {
-            ParameterizedType parameterizedType = (ParameterizedType) field.getGenericType();
-            Type typeParameter = parameterizedType.getActualTypeArguments()[0];
-            if (typeParameter instanceof ParameterizedType) {
-                type = (Class<?>) ((ParameterizedType) typeParameter).getRawType();
-            } else {
-                type = (Class<?>) typeParameter;
-            }
-        }
-        return type;
+    private static boolean isIgnored(Class<?> clazz) {
+        return clazz.isPrimitive() || clazz.isSynthetic() ||
+                clazz.getName().startsWith("java") || clazz.getName().startsWith("sun");
     }
 
 }
@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.asyncShutdown;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.jboss.weld.junit5.pool.RequestBean;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.api.parallel.Isolated;
+
+/**
+ * The container of the first repetition is shut down in the background while the second repetition is executed.
+ */
+@Isolated
+@Execution(ExecutionMode.SAME_THREAD)
+@EnableWeld
+public class AsyncShutdownTest {
+
+    static WeldInitiator previousInitiator;
+
+    static WeldContainer previousContainer;
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.of(RequestBean.class);
+
+    @BeforeAll
+    static void enableAsyncShutdown() {
+        System.setProperty(WeldJunit5Extension.GLOBAL_ASYNC_SHUTDOWN_THREADS, "1");
+    }
+
+    @AfterAll
+    static void disableAsyncShutdown() {
+        System.clearProperty(WeldJunit5Extension.GLOBAL_ASYNC_SHUTDOWN_THREADS);
+    }
+
+    @RepeatedTest(2)
+    public void testContainerIsShutDownInBackground() throws InterruptedException {
+        if (previousInitiator != null) {
+            // the initiator is detached from the container immediately
+            assertFalse(previousInitiator.isRunning());
+            assertNotEquals(previousContainer.getId(), weld.getId());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (previousContainer.isRunning() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertFalse(previousContainer.isRunning());
+        }
+        assertTrue(weld.isRunning());
+        previousInitiator = weld;
+        previousContainer = weld.container();
+    }
+
+}
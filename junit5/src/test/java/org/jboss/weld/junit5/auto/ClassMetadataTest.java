@@ -0,0 +1,64 @@
+package org.jboss.weld.junit5.auto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit5.basic.Foo;
+import org.jboss.weld.junit5.explicitInjection.Bar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ClassMetadataTest {
+
+    @Test
+    void testMetadataIsMemoized() {
+        assertSame(ClassMetadata.of(Fixture.class), ClassMetadata.of(Fixture.class));
+    }
+
+    @Test
+    void testRequiredClasses() {
+        ClassMetadata metadata = ClassMetadata.of(Fixture.class);
+        List<Class<?>> required = metadata.getRequiredClasses(false);
+        List<Class<?>> explicitlyRequired = metadata.getRequiredClasses(true);
+        // injected fields first, in the order returned by ReflectionSupport.findFields() which is not the declaration order
+        assertEquals(Set.of(Foo.class, Bar.class), Set.copyOf(required.subList(0, 2)));
+        assertEquals(Set.of(Foo.class, Bar.class), Set.copyOf(explicitlyRequired.subList(0, 2)));
+        // then the parameters of test methods followed by lifecycle methods
+        assertEquals(List.of(Bar.class, String.class), required.subList(2, required.size()));
+        assertEquals(List.of(Bar.class), explicitlyRequired.subList(2, explicitlyRequired.size()));
+        assertEquals(List.of(Foo.class), metadata.excludedBeanTypes);
+        assertEquals(List.of(Bar.class), metadata.beanClasses);
+        assertFalse(metadata.beanDefining);
+        assertTrue(ClassMetadata.of(Foo.class).beanDefining);
+    }
+
+    @AddBeanClasses({ Bar.class, Bar.class })
+    static class Fixture {
+
+        @Inject
+        @ExcludeBean
+        Foo foo;
+
+        @Inject
+        Instance<Bar> bar;
+
+        @BeforeEach
+        void before(String name) {
+        }
+
+        @Test
+        void test(@Default Bar bar) {
+        }
+
+    }
+
+}
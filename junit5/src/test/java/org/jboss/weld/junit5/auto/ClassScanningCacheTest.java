@@ -0,0 +1,90 @@
+package org.jboss.weld.junit5.auto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.weld.junit.ClassScanningCache;
+import org.jboss.weld.junit.ScanResult;
+import org.jboss.weld.junit5.basic.Foo;
+import org.jboss.weld.junit5.explicitInjection.Bar;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Isolated;
+
+@Isolated
+class ClassScanningCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    @BeforeEach
+    void enableCache() {
+        System.setProperty(ClassScanningCache.ENABLED, "true");
+        System.setProperty(ClassScanningCache.DIRECTORY, cacheDir.toString());
+    }
+
+    @AfterEach
+    void disableCache() {
+        System.clearProperty(ClassScanningCache.ENABLED);
+        System.clearProperty(ClassScanningCache.DIRECTORY);
+    }
+
+    @Test
+    void testCachedResultIsReplayedUntilBytecodeChanges() throws IOException {
+        AtomicInteger scans = new AtomicInteger();
+        Supplier<ScanResult> scanner = () -> {
+            scans.incrementAndGet();
+            return ScanResult.builder()
+                    .visit(Foo.class)
+                    .addBeanClass(Foo.class)
+                    .excludeBeanClass(Bar.class)
+                    .build();
+        };
+        List<Class<?>> testClasses = List.of(BasicAutoConfigTest.class);
+
+        String computed = toString(ClassScanningCache.getOrCompute(testClasses, false, scanner));
+        assertEquals(1, scans.get());
+
+        // replayed from the cache file
+        assertEquals(computed, toString(ClassScanningCache.getOrCompute(testClasses, false, scanner)));
+        assertEquals(1, scans.get());
+
+        // simulate a change of Foo
+        Path cacheFile;
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            cacheFile = files.collect(Collectors.toList()).get(0);
+        }
+        String content = Files.readString(cacheFile);
+        assertTrue(content.contains("checksum " + Foo.class.getName() + " "));
+        Files.writeString(cacheFile, content.lines()
+                .map(line -> line.startsWith("checksum " + Foo.class.getName() + " ") ? line + "0" : line)
+                .collect(Collectors.joining("\n")));
+        assertEquals(computed, toString(ClassScanningCache.getOrCompute(testClasses, false, scanner)));
+        assertEquals(2, scans.get());
+
+        // a different explicit injection setting uses a different file
+        ClassScanningCache.getOrCompute(testClasses, true, scanner);
+        assertEquals(3, scans.get());
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    private static String toString(ScanResult result) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        result.writeTo(builder);
+        return builder.toString();
+    }
+
+}
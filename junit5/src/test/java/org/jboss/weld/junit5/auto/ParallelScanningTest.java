@@ -0,0 +1,44 @@
+package org.jboss.weld.junit5.auto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+@Isolated
+class ParallelScanningTest {
+
+    private static final List<Class<?>> TEST_CLASSES = List.of(ExcludeBeanTest.class, ExcludeBeanClassesDepsTest.class,
+            ExcludeBeanHierarchyTest.class, AddDecoratorTest.class, AddInterceptorTest.class, SetDiscoveryModeAllTest.class,
+            InjectParameterizedInstanceTest.class, ProducerMethodParametersScanningTest.class);
+
+    @AfterEach
+    void disableParallelScanning() {
+        System.clearProperty(WeldJunit5Extension.GLOBAL_PARALLEL_SCANNING);
+    }
+
+    @Test
+    void testParallelScanningMatchesSequentialScanning() throws IOException {
+        for (Class<?> testClass : TEST_CLASSES) {
+            for (boolean explicitInjection : new boolean[] { false, true }) {
+                // scan in parallel first so that the class metadata are not memoized yet
+                System.setProperty(WeldJunit5Extension.GLOBAL_PARALLEL_SCANNING, "true");
+                String parallel = scan(testClass, explicitInjection);
+                System.clearProperty(WeldJunit5Extension.GLOBAL_PARALLEL_SCANNING);
+                assertEquals(scan(testClass, explicitInjection), parallel, testClass.getName());
+            }
+        }
+    }
+
+    private static String scan(Class<?> testClass, boolean explicitInjection) throws IOException {
+        StringBuilder result = new StringBuilder();
+        ClassScanning.scan(List.of(testClass), explicitInjection).writeTo(result);
+        return result.toString();
+    }
+
+}
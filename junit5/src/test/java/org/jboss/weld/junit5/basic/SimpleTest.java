@@ -19,6 +19,9 @@ package org.jboss.weld.junit5.basic;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
+import java.util.Arrays;
+import java.util.List;
+
 import jakarta.inject.Inject;
 
 import org.jboss.weld.junit5.WeldInitiator;
@@ -59,6 +62,16 @@ public class SimpleTest {
         }
     }
 
+    @Test
+    public void testManualNonContextualInjectionOfMultipleInstances() throws Exception {
+        List<NonContextual> suts = Arrays.asList(new NonContextual(), new NonContextual(), new NonContextual());
+        try (AutoCloseable contextReleaser = weld.injectNonContextualAll(suts)) {
+            for (NonContextual sut : suts) {
+                assertEquals("baz", sut.foo.getBar());
+            }
+        }
+    }
+
     private static class NonContextual {
         @Inject
         private Foo foo;
@@ -0,0 +1,127 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.contexts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.SessionScoped;
+
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@EnableWeld
+public class ContextPropagationTest {
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.from(Foo.class, Oof.class).activate(RequestScoped.class, SessionScoped.class)
+            .build();
+
+    ExecutorService pool;
+
+    @BeforeEach
+    public void startPool() {
+        pool = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void stopPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testContextsAreNotPropagatedByDefault() {
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> pool.submit(() -> weld.select(Foo.class).get().getId()).get());
+        assertInstanceOf(ContextNotActiveException.class, e.getCause());
+    }
+
+    @Test
+    public void testExecutorService() throws Exception {
+        String fooId = weld.select(Foo.class).get().getId();
+        String oofId = weld.select(Oof.class).get().getId();
+        ExecutorService executor = weld.contextPropagatingExecutorService(pool);
+        assertEquals(fooId, executor.submit(() -> weld.select(Foo.class).get().getId()).get());
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(() -> weld.select(Oof.class).get().getId());
+        }
+        for (Future<String> future : executor.invokeAll(tasks)) {
+            assertEquals(oofId, future.get());
+        }
+        // the contexts of the pooled threads are restored
+        testContextsAreNotPropagatedByDefault();
+    }
+
+    @Test
+    public void testInstanceCreatedConcurrentlyIsShared() throws Exception {
+        ExecutorService executor = weld.contextPropagatingExecutorService(pool);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(() -> {
+                ids.add(weld.select(Foo.class).get().getId());
+                return null;
+            });
+        }
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+        assertEquals(Set.of(weld.select(Foo.class).get().getId()), ids);
+    }
+
+    @Test
+    public void testExecutor() throws Exception {
+        String fooId = weld.select(Foo.class).get().getId();
+        AtomicReference<String> result = new AtomicReference<>();
+        weld.contextPropagatingExecutor(pool).execute(() -> result.set(weld.select(Foo.class).get().getId()));
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+        assertEquals(fooId, result.get());
+    }
+
+    @Test
+    public void testThreadFactory() throws Exception {
+        String fooId = weld.select(Foo.class).get().getId();
+        AtomicReference<String> result = new AtomicReference<>();
+        Thread thread = weld.contextPropagatingThreadFactory(Thread::new)
+                .newThread(() -> result.set(weld.select(Foo.class).get().getId()));
+        thread.start();
+        thread.join();
+        assertEquals(fooId, result.get());
+    }
+
+}
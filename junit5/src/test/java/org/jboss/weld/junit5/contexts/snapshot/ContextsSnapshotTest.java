@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.contexts.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit.ContextsSnapshot;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.SoftReset;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+/**
+ * All test methods share a single container, so the request scoped fixture created by the first test method can be restored
+ * in the following ones.
+ */
+@Execution(ExecutionMode.SAME_THREAD)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@SoftReset
+@EnableWeld
+public class ContextsSnapshotTest {
+
+    static ContextsSnapshot snapshot;
+
+    static String fixtureId;
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.from(ExpensiveFixture.class, RequestContextObserver.class)
+            .activate(RequestScoped.class).build();
+
+    @Inject
+    ExpensiveFixture fixture;
+
+    @BeforeEach
+    @AfterEach
+    public void assertContextIsActivatedOnce() {
+        // the request context is activated for each test method but never for a restore
+        assertEquals(RequestContextObserver.DESTROYED.get() + 1, RequestContextObserver.INITIALIZED.get());
+    }
+
+    @Test
+    @Order(1)
+    public void testSnapshot() {
+        fixtureId = fixture.getId();
+        snapshot = weld.snapshotContexts();
+        assertEquals(1, ExpensiveFixture.CREATED.get());
+    }
+
+    @Test
+    @Order(2)
+    public void testRestore() {
+        // the instances of the snapshot survive the deactivation of the context
+        assertEquals(0, ExpensiveFixture.DESTROYED.get());
+        weld.restoreContexts(snapshot);
+        assertEquals(fixtureId, fixture.getId());
+        assertFalse(fixture.isCopy());
+        assertEquals(1, ExpensiveFixture.CREATED.get());
+    }
+
+    @Test
+    @Order(3)
+    public void testRestoreCopy() {
+        weld.restoreContexts(snapshot, instance -> ((ExpensiveFixture) instance).copy());
+        assertEquals(fixtureId, fixture.getId());
+        assertTrue(fixture.isCopy());
+        assertEquals(1, ExpensiveFixture.CREATED.get());
+    }
+
+    @Test
+    @Order(4)
+    public void testNoRestore() {
+        // the copy is destroyed along with the context
+        assertEquals(1, ExpensiveFixture.DESTROYED.get());
+        assertNotEquals(fixtureId, fixture.getId());
+        assertEquals(2, ExpensiveFixture.CREATED.get());
+    }
+
+    @AfterAll
+    public static void closeSnapshot() {
+        assertEquals(2, ExpensiveFixture.DESTROYED.get());
+        snapshot.close();
+        assertEquals(3, ExpensiveFixture.DESTROYED.get());
+    }
+
+}
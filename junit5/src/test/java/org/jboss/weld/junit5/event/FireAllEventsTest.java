@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.jboss.weld.junit5.basic.Foo;
+import org.junit.jupiter.api.Test;
+
+@EnableWeld
+public class FireAllEventsTest {
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.of(BatchObserver.class);
+
+    @Test
+    public void testEventObjectReused() {
+        assertSame(weld.event(), weld.event());
+    }
+
+    @Test
+    public void testEventsFiredInOrder() {
+        Foo first = new Foo("first");
+        Foo second = new Foo("second");
+        weld.fireAll(Arrays.asList(first, "string", second));
+        assertEquals(Arrays.asList(first, "string", second), weld.select(BatchObserver.class).get().getEvents());
+    }
+
+    @ApplicationScoped
+    static class BatchObserver {
+
+        private final List<Object> events = new ArrayList<>();
+
+        List<Object> getEvents() {
+            return events;
+        }
+
+        void observeFoo(@Observes Foo foo) {
+            events.add(foo);
+        }
+
+        void observeString(@Observes String string) {
+            events.add(string);
+        }
+
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.interceptor;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.interceptor.InterceptorBinding;
+
+import org.jboss.weld.junit.InvocationRecorder;
+import org.jboss.weld.junit.InvocationRecorder.Invocation;
+import org.jboss.weld.junit.MockInterceptor;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.Test;
+
+@EnableWeld
+public class InvocationRecorderTest {
+
+    private final InvocationRecorder recorder = new InvocationRecorder(8, true);
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.from(Foo.class).addBeans(
+            MockInterceptor.withBindings(BarBinding.Literal.INSTANCE).aroundInvoke(recorder)).build();
+
+    @Test
+    public void testSequenceRecorded() {
+        Foo foo = weld.select(Foo.class).get();
+        assertEquals("hello", foo.ping("hello"));
+        foo.pong();
+        recorder.assertSequence("ping", "pong");
+        recorder.assertInOrder("pong");
+        assertThrows(AssertionError.class, () -> recorder.assertSequence("pong", "ping"));
+        assertThrows(AssertionError.class, () -> recorder.assertInOrder("pong", "ping"));
+
+        List<Invocation> invocations = recorder.getInvocations();
+        assertEquals(Foo.class, invocations.get(0).getBean().getBeanClass());
+        assertEquals(Arrays.asList("hello"), invocations.get(0).getArguments());
+        assertSame(Thread.currentThread(), invocations.get(1).getThread());
+        assertTrue(invocations.get(0).getNanoTime() <= invocations.get(1).getNanoTime());
+    }
+
+    @Test
+    public void testOnlyMostRecentInvocationsRetained() {
+        Foo foo = weld.select(Foo.class).get();
+        for (int i = 0; i < 10; i++) {
+            foo.ping("ping" + i);
+        }
+        foo.pong();
+        assertEquals(11, recorder.getCount());
+        List<Invocation> invocations = recorder.getInvocations();
+        assertEquals(recorder.getCapacity(), invocations.size());
+        assertEquals(Arrays.asList("ping3"), invocations.get(0).getArguments());
+        assertEquals("pong", invocations.get(invocations.size() - 1).getMethod().getName());
+
+        recorder.clear();
+        assertEquals(0, recorder.getCount());
+        assertTrue(recorder.getInvocations().isEmpty());
+    }
+
+    @Test
+    public void testConcurrentInvocations() throws Exception {
+        Foo foo = weld.select(Foo.class).get();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[4];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        foo.pong();
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(4000, recorder.getCount());
+        List<Invocation> invocations = recorder.getInvocations(invocation -> invocation.getMethod().getName().equals("pong"));
+        assertEquals(recorder.getCapacity(), invocations.size());
+        for (int i = 1; i < invocations.size(); i++) {
+            assertEquals(invocations.get(i - 1).getSequence() + 1, invocations.get(i).getSequence());
+        }
+    }
+
+    @Test
+    public void testConcurrentInvocationsExceedingCapacity() throws Exception {
+        InvocationRecorder smallRecorder = new InvocationRecorder(2, true);
+        Method[] methods = Object.class.getMethods();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int i = 0; i < futures.length; i++) {
+                Integer index = i;
+                futures[i] = executor.submit(() -> {
+                    Thread.currentThread().setName("recorder-" + index);
+                    for (int j = 0; j < 10000; j++) {
+                        smallRecorder.record(null, methods[index % methods.length], new Object[] { index });
+                        for (Invocation invocation : smallRecorder.getInvocations()) {
+                            // all fields of an invocation must be written by the same thread
+                            int recorded = (Integer) invocation.getArguments().get(0);
+                            assertEquals(methods[recorded % methods.length], invocation.getMethod());
+                            assertEquals("recorder-" + recorded, invocation.getThread().getName());
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * 10000, smallRecorder.getCount());
+        assertEquals(smallRecorder.getCapacity(), smallRecorder.getInvocations().size());
+    }
+
+    @BarBinding
+    static class Foo {
+
+        String ping(String value) {
+            return value;
+        }
+
+        void pong() {
+        }
+
+    }
+
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    @InterceptorBinding
+    static @interface BarBinding {
+
+        @SuppressWarnings("serial")
+        static final class Literal extends AnnotationLiteral<BarBinding> implements BarBinding {
+
+            public static final Literal INSTANCE = new Literal();
+
+        };
+
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.RequestScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Executes a test fixture while a flight recording is in progress and verifies the recorded events. Other tests may be
+ * executed concurrently so only the events of the fixture are taken into account.
+ */
+public class JfrEventsTest {
+
+    @Test
+    public void testEventsAreRecorded() throws IOException {
+        Path file = Files.createTempFile("weld-junit", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable("org.jboss.weld.junit.ContainerBoot");
+                recording.enable("org.jboss.weld.junit.ContainerShutdown");
+                recording.enable("org.jboss.weld.junit.ContextActivation");
+                recording.enable("org.jboss.weld.junit.Injection");
+                recording.start();
+                execute();
+                recording.stop();
+                recording.dump(file);
+            }
+            Map<String, RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> JfrFixture.class.getName().equals(event.getString("testClass")))
+                    .collect(Collectors.toMap(event -> event.getEventType().getName(), Function.identity(),
+                            (first, second) -> first));
+
+            RecordedEvent boot = events.get("org.jboss.weld.junit.ContainerBoot");
+            assertNotNull(boot);
+            assertEquals("testBeanInjected", boot.getString("testMethod"));
+            assertNotNull(boot.getString("containerId"));
+            assertTrue(boot.getInt("beanCount") > 0);
+
+            RecordedEvent activation = events.get("org.jboss.weld.junit.ContextActivation");
+            assertNotNull(activation);
+            assertEquals(RequestScoped.class.getName(), activation.getString("scope"));
+            assertEquals(boot.getString("containerId"), activation.getString("containerId"));
+
+            RecordedEvent injection = events.get("org.jboss.weld.junit.Injection");
+            assertNotNull(injection);
+            assertEquals(JfrFixture.class.getName(), injection.getString("instanceClass"));
+            assertEquals(1, injection.getInt("beanCount"));
+
+            RecordedEvent shutdown = events.get("org.jboss.weld.junit.ContainerShutdown");
+            assertNotNull(shutdown);
+            assertEquals(boot.getString("containerId"), shutdown.getString("containerId"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void execute() {
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClass(JfrFixture.class))
+                .build();
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        LauncherFactory.create().execute(request, listener);
+        assertEquals(0, listener.getSummary().getTotalFailureCount());
+        assertEquals(1, listener.getSummary().getTestsSucceededCount());
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.packageIndex;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.junit.PackageIndex;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.packageIndex.sub.SubpackageBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+@Isolated
+public class PackageIndexTest {
+
+    @BeforeEach
+    public void enableIndex() {
+        System.setProperty(PackageIndex.ENABLED, "true");
+    }
+
+    @AfterEach
+    public void disableIndex() {
+        System.clearProperty(PackageIndex.ENABLED);
+    }
+
+    @Test
+    public void testPackage() {
+        try (WeldContainer container = PackageIndex.addPackage(WeldInitiator.createWeld(), false, IndexedBean.class)
+                .initialize()) {
+            assertTrue(container.select(IndexedBean.class).isResolvable());
+            assertFalse(container.select(SubpackageBean.class).isResolvable());
+        }
+    }
+
+    @Test
+    public void testPackageRecursively() {
+        try (WeldContainer container = PackageIndex.addPackage(WeldInitiator.createWeld(), true, IndexedBean.class)
+                .initialize()) {
+            assertTrue(container.select(IndexedBean.class).isResolvable());
+            assertTrue(container.select(SubpackageBean.class).isResolvable());
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.parallel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.jboss.weld.junit5.WeldInitiator;
+
+/**
+ * Checks performed by the fixtures executed by {@link ParallelExecutionTest}.
+ */
+final class ParallelAssertions {
+
+    private ParallelAssertions() {
+    }
+
+    static void assertNoCrossTalk(WeldInitiator weld, ParallelRequestBean requestBean) throws InterruptedException {
+        assertTrue(weld.isRunning());
+        String containerId = weld.getId();
+        String value = UUID.randomUUID().toString();
+        requestBean.setValue(value);
+        // give the concurrently executed test methods a chance to interfere
+        Thread.sleep(2);
+        assertEquals(value, requestBean.getValue());
+        assertEquals(value, weld.select(ParallelRequestBean.class).get().getValue());
+        assertEquals(containerId, weld.getId());
+        assertTrue(weld.isRunning());
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.parallel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+/**
+ * Executes the test methods of all supported lifecycles concurrently and verifies that they neither interfere with each
+ * other nor leak a container.
+ */
+@Isolated
+public class ParallelExecutionTest {
+
+    static final int REPETITIONS = 50;
+
+    @Test
+    public void testConcurrentTestMethods() {
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClass(ParallelPerMethodFixture.class), selectClass(ParallelStaticInitiatorFixture.class),
+                        selectClass(ParallelPerClassFixture.class), selectClass(ParallelSoftResetFixture.class))
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                .configurationParameter("junit.jupiter.execution.parallel.mode.default", "concurrent")
+                .configurationParameter("junit.jupiter.execution.parallel.mode.classes.default", "concurrent")
+                .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "8")
+                .build();
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        Set<String> runningContainers = new HashSet<>(WeldContainer.getRunningContainerIds());
+        LauncherFactory.create().execute(request, listener);
+        TestExecutionSummary summary = listener.getSummary();
+        assertEquals(0, summary.getTotalFailureCount(), () -> summary.getFailures().toString());
+        // ParallelSoftResetFixture declares an additional test method
+        assertEquals(4 * REPETITIONS + 1, summary.getTestsSucceededCount());
+        assertEquals(runningContainers, new HashSet<>(WeldContainer.getRunningContainerIds()));
+    }
+
+}
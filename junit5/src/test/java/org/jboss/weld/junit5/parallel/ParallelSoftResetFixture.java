@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.parallel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.SoftReset;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Executed by {@link ParallelExecutionTest}; all test methods, including the repetitions of a repeated test, share a single
+ * container which is reset in between.
+ */
+@SoftReset
+@EnableWeld
+public class ParallelSoftResetFixture {
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.from(ParallelRequestBean.class).activate(RequestScoped.class).build();
+
+    @Inject
+    ParallelRequestBean requestBean;
+
+    private static final AtomicInteger ACTIVE_METHODS = new AtomicInteger();
+
+    private static final AtomicReference<String> CONTAINER_ID = new AtomicReference<>();
+
+    @RepeatedTest(ParallelExecutionTest.REPETITIONS)
+    public void testNoCrossTalk() throws InterruptedException {
+        assertExclusiveUseOfSharedContainer();
+    }
+
+    @Test
+    public void testSharedWithRepetitions() throws InterruptedException {
+        // use the container long enough to overlap with the repetitions
+        assertExclusiveUseOfSharedContainer(50);
+    }
+
+    private void assertExclusiveUseOfSharedContainer() throws InterruptedException {
+        assertExclusiveUseOfSharedContainer(0);
+    }
+
+    private void assertExclusiveUseOfSharedContainer(long millis) throws InterruptedException {
+        try {
+            assertEquals(1, ACTIVE_METHODS.incrementAndGet());
+            CONTAINER_ID.compareAndSet(null, weld.getId());
+            assertEquals(CONTAINER_ID.get(), weld.getId());
+            ParallelAssertions.assertNoCrossTalk(weld, requestBean);
+            Thread.sleep(millis);
+            assertEquals(1, ACTIVE_METHODS.get());
+        } finally {
+            ACTIVE_METHODS.decrementAndGet();
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.parallel;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.RepeatedTest;
+
+/**
+ * Executed by {@link ParallelExecutionTest}; the initiator is shared by all test methods and so they must not be executed
+ * at the same time.
+ */
+@EnableWeld
+public class ParallelStaticInitiatorFixture {
+
+    @WeldSetup
+    public static WeldInitiator weld = WeldInitiator.from(ParallelRequestBean.class).activate(RequestScoped.class).build();
+
+    @Inject
+    ParallelRequestBean requestBean;
+
+    @RepeatedTest(ParallelExecutionTest.REPETITIONS)
+    public void testNoCrossTalk() throws InterruptedException {
+        ParallelAssertions.assertNoCrossTalk(weld, requestBean);
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.api.parallel.Isolated;
+
+/**
+ * Each repetition gets a new test instance and a new initiator with the same deployment fingerprint, so the container booted
+ * for the first repetition is leased from the pool for the following ones.
+ */
+@Isolated
+@Execution(ExecutionMode.SAME_THREAD)
+@EnableWeld
+public class ContainerPoolTest {
+
+    static String containerId;
+
+    static String requestBeanId;
+
+    static WeldInitiator previous;
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.from(RequestBean.class).activate(RequestScoped.class).build();
+
+    @Inject
+    RequestBean requestBean;
+
+    @BeforeAll
+    static void enablePool() {
+        System.setProperty(WeldJunit5Extension.GLOBAL_CONTAINER_POOL_SIZE, "2");
+    }
+
+    @AfterAll
+    static void disablePool() {
+        System.clearProperty(WeldJunit5Extension.GLOBAL_CONTAINER_POOL_SIZE);
+    }
+
+    @RepeatedTest(3)
+    public void testContainerIsReusedAndContextsAreReset() {
+        if (containerId == null) {
+            containerId = weld.getId();
+            requestBeanId = requestBean.getId();
+        } else {
+            assertEquals(containerId, weld.getId());
+            // request context was deactivated and activated again
+            assertNotEquals(requestBeanId, requestBean.getId());
+            // the previous initiator released the container to the pool, shutting it down must not affect the lease
+            assertFalse(previous.isRunning());
+            previous.shutdown();
+            assertTrue(weld.isRunning());
+        }
+        previous = weld;
+    }
+
+}
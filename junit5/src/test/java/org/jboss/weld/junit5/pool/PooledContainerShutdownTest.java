@@ -0,0 +1,63 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.pool;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.api.parallel.Isolated;
+
+/**
+ * An explicit {@link WeldInitiator#shutdown()} stops a pooled container instead of returning it to the pool.
+ */
+@Isolated
+@Execution(ExecutionMode.SAME_THREAD)
+@EnableWeld
+public class PooledContainerShutdownTest {
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.of(RequestBean.class);
+
+    @BeforeAll
+    static void enablePool() {
+        System.setProperty(WeldJunit5Extension.GLOBAL_CONTAINER_POOL_SIZE, "2");
+    }
+
+    @AfterAll
+    static void disablePool() {
+        System.clearProperty(WeldJunit5Extension.GLOBAL_CONTAINER_POOL_SIZE);
+    }
+
+    @Test
+    public void testShutdownStopsContainer() {
+        String containerId = weld.getId();
+        weld.shutdown();
+        assertFalse(weld.isRunning());
+        assertNull(WeldContainer.instance(containerId));
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.prefetch;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Executed by {@link PrefetchTest}. The static initiator does not depend on the test instance and so the container can be
+ * booted in advance.
+ */
+@EnableWeld
+public class PrefetchSecondFixture {
+
+    @WeldSetup
+    public static WeldInitiator weld = WeldInitiator.of(SecondBootObserver.class);
+
+    @Test
+    public void testContainerIsRunning() {
+        assertTrue(weld.isRunning());
+    }
+
+}
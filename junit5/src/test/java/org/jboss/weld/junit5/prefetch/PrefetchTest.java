@@ -0,0 +1,59 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.prefetch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+/**
+ * Executes two test classes in a fixed order; the container of the second one is expected to be booted on the prefetch
+ * thread while the first one is executed.
+ */
+@Isolated
+public class PrefetchTest {
+
+    @Test
+    public void testNextTestClassIsPrefetched() {
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClass(PrefetchFirstFixture.class), selectClass(PrefetchSecondFixture.class))
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .configurationParameter("junit.jupiter.testclass.order.default", ClassOrderer.ClassName.class.getName())
+                .build();
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        System.setProperty(WeldJunit5Extension.GLOBAL_PREFETCH, "true");
+        try {
+            LauncherFactory.create().execute(request, listener);
+        } finally {
+            System.clearProperty(WeldJunit5Extension.GLOBAL_PREFETCH);
+        }
+        TestExecutionSummary summary = listener.getSummary();
+        assertEquals(0, summary.getTotalFailureCount());
+        assertEquals(2, summary.getTestsSucceededCount());
+        assertEquals("weld-junit5-prefetch", SecondBootObserver.bootThread);
+    }
+
+}
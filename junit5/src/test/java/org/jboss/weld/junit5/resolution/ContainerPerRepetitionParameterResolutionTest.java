@@ -0,0 +1,59 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.resolution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.RepeatedTest;
+
+/**
+ * Each repetition boots a new container and so the cached parameter resolution plans must not be reused.
+ */
+@EnableWeld
+public class ContainerPerRepetitionParameterResolutionTest {
+
+    private static final Set<String> APPLICATION_IDS = ConcurrentHashMap.newKeySet();
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.of(ApplicationBean.class, DependentBean.class);
+
+    @Inject
+    ApplicationBean injected;
+
+    @RepeatedTest(5)
+    public void testParametersResolved(ApplicationBean applicationBean, DependentBean dependentBean) {
+        // the parameter is resolved by the container of the current repetition
+        assertEquals(injected.getId(), applicationBean.getId());
+        assertTrue(APPLICATION_IDS.add(applicationBean.getId()));
+    }
+
+    @AfterAll
+    public static void verifyNewContainers() {
+        assertEquals(5, APPLICATION_IDS.size());
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.resolution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.TestInstance;
+
+/**
+ * All repetitions share the container and so the parameter resolution plans are reused.
+ */
+@EnableWeld
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SharedContainerParameterResolutionTest {
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.of(ApplicationBean.class, DependentBean.class);
+
+    private final List<String> applicationIds = new ArrayList<>();
+
+    private final List<Integer> dependentIds = new ArrayList<>();
+
+    @RepeatedTest(5)
+    public void testParametersResolved(ApplicationBean applicationBean, DependentBean dependentBean,
+            RepetitionInfo repetitionInfo) {
+        applicationIds.add(applicationBean.getId());
+        if (!dependentIds.isEmpty()) {
+            // a new dependent instance is created for each repetition
+            assertNotEquals(dependentIds.get(dependentIds.size() - 1), dependentBean.getId());
+        }
+        dependentIds.add(dependentBean.getId());
+        assertEquals(repetitionInfo.getCurrentRepetition(), applicationIds.size());
+    }
+
+    @AfterAll
+    public void verifySameApplicationBean() {
+        assertEquals(5, applicationIds.size());
+        assertEquals(1, applicationIds.stream().distinct().count());
+    }
+
+}
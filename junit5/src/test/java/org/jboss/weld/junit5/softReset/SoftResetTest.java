@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.softReset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.SoftReset;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.jboss.weld.junit5.pool.RequestBean;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+/**
+ * The container is booted for the first repetition and only reset for the following ones and the other test methods.
+ */
+@Execution(ExecutionMode.SAME_THREAD)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@SoftReset
+@EnableWeld
+public class SoftResetTest {
+
+    static String containerId;
+
+    static String requestBeanId;
+
+    static String counterBeanId;
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.from(RequestBean.class, CounterBean.class).activate(RequestScoped.class)
+            .build();
+
+    @Inject
+    RequestBean requestBean;
+
+    @Inject
+    CounterBean counterBean;
+
+    @Order(1)
+    @RepeatedTest(3)
+    public void testContainerIsReusedAndStateIsReset() {
+        // application scoped instances are destroyed between test methods
+        assertEquals(1, counterBean.increment());
+        if (containerId == null) {
+            containerId = weld.getId();
+            requestBeanId = requestBean.getId();
+            counterBeanId = counterBean.getId();
+        } else {
+            assertEquals(containerId, weld.getId());
+            assertNotEquals(requestBeanId, requestBean.getId());
+            assertNotEquals(counterBeanId, counterBean.getId());
+        }
+    }
+
+    @Order(2)
+    @Test
+    public void testContainerIsSharedWithRepetitions() {
+        // the container is owned by the test class, not by the repeated test
+        assertEquals(containerId, weld.getId());
+        assertEquals(1, counterBean.increment());
+    }
+
+}
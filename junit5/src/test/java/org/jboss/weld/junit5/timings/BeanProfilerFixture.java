@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.timings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Executed by {@link BeanProfilerTest}.
+ */
+@EnableWeld
+public class BeanProfilerFixture {
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.of(Foo.class, BarProducer.class);
+
+    @Inject
+    Foo foo;
+
+    @Inject
+    Bar bar;
+
+    @Test
+    public void testBeansCreated() {
+        assertTrue(foo.initialized);
+        assertEquals("bar", bar.id);
+    }
+
+    @Dependent
+    public static class Foo {
+
+        boolean initialized;
+
+        @PostConstruct
+        void init() {
+            initialized = true;
+        }
+
+        @PreDestroy
+        void destroy() {
+            initialized = false;
+        }
+
+    }
+
+    public static class Bar {
+
+        final String id;
+
+        Bar(String id) {
+            this.id = id;
+        }
+
+    }
+
+    @Dependent
+    public static class BarProducer {
+
+        @Produces
+        Bar produceBar() {
+            return new Bar("bar");
+        }
+
+    }
+
+}
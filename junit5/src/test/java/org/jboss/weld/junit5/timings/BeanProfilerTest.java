@@ -0,0 +1,79 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.timings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.weld.junit.BeanProfiler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+
+/**
+ * Executes a test fixture with the bean profiler enabled and verifies the published report entries.
+ */
+@Isolated
+public class BeanProfilerTest {
+
+    private static final String PREFIX = "weld.bean." + BeanProfilerFixture.class.getName();
+
+    @Test
+    public void testBeanStatisticsArePublished() {
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClass(BeanProfilerFixture.class))
+                .build();
+        Map<String, String> entries = new ConcurrentHashMap<>();
+        SummaryGeneratingListener summary = new SummaryGeneratingListener();
+        TestExecutionListener reportListener = new TestExecutionListener() {
+
+            @Override
+            public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+                entries.putAll(entry.getKeyValuePairs());
+            }
+
+        };
+        System.setProperty(BeanProfiler.ENABLED, "true");
+        try {
+            LauncherFactory.create().execute(request, summary, reportListener);
+        } finally {
+            System.clearProperty(BeanProfiler.ENABLED);
+        }
+        assertEquals(0, summary.getSummary().getTotalFailureCount());
+        assertEquals(1, summary.getSummary().getTestsSucceededCount());
+
+        String foo = entries.get(PREFIX + "$Foo");
+        assertTrue(foo.startsWith("creations=1,"), foo);
+        assertTrue(foo.contains("destructions=1,"), foo);
+        String bar = entries.get(PREFIX + "$BarProducer#produceBar()");
+        assertTrue(bar.startsWith("creations=1,"), bar);
+        // the lifecycle timings themselves are not published unless enabled
+        assertNull(entries.get("weld.boot"));
+    }
+
+}
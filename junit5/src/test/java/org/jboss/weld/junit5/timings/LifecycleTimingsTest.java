@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.timings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+
+/**
+ * Executes test fixtures with the lifecycle timings enabled and verifies the published report entries.
+ */
+@Isolated
+public class LifecycleTimingsTest {
+
+    @Test
+    public void testTimingsArePublished() {
+        Map<String, Map<String, String>> entries = execute(TimingsFixture.class);
+        Map<String, String> entry = entries.get("testBeanInjected()");
+        assertNull(entry.get("weld.scanning"));
+        assertPhases(entry, "weld.boot", "weld.context_activation", "weld.injection", "weld.shutdown");
+    }
+
+    @Test
+    public void testScanningTimingsArePublished() {
+        Map<String, Map<String, String>> entries = execute(TimingsAutoFixture.class);
+        assertPhases(entries.get("testBeanInjected()"), "weld.scanning", "weld.enrichment", "weld.boot",
+                "weld.context_activation", "weld.injection", "weld.shutdown");
+    }
+
+    private static void assertPhases(Map<String, String> entry, String... keys) {
+        for (String key : keys) {
+            assertTrue(Long.parseLong(entry.get(key)) >= 0, key);
+        }
+    }
+
+    private static Map<String, Map<String, String>> execute(Class<?> fixture) {
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClass(fixture))
+                .build();
+        Map<String, Map<String, String>> entries = new ConcurrentHashMap<>();
+        SummaryGeneratingListener summary = new SummaryGeneratingListener();
+        TestExecutionListener reportListener = new TestExecutionListener() {
+
+            @Override
+            public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+                entries.put(testIdentifier.getDisplayName(), entry.getKeyValuePairs());
+            }
+
+        };
+        System.setProperty(WeldJunit5Extension.GLOBAL_LIFECYCLE_TIMINGS, "true");
+        try {
+            LauncherFactory.create().execute(request, summary, reportListener);
+        } finally {
+            System.clearProperty(WeldJunit5Extension.GLOBAL_LIFECYCLE_TIMINGS);
+        }
+        assertEquals(0, summary.getSummary().getTotalFailureCount());
+        assertEquals(1, summary.getSummary().getTestsSucceededCount());
+        return entries;
+    }
+
+}
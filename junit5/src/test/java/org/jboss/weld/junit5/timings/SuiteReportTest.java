@@ -0,0 +1,67 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.timings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jboss.weld.junit.SuiteReport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+
+/**
+ * Executes test fixtures with the suite report enabled and verifies the written summary.
+ */
+@Isolated
+public class SuiteReportTest {
+
+    @Test
+    public void testReportIsWritten(@TempDir Path directory) throws IOException {
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClass(TimingsFixture.class), selectClass(TimingsAutoFixture.class))
+                .build();
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        System.setProperty(SuiteReport.ENABLED, "true");
+        try {
+            LauncherFactory.create().execute(request, listener);
+        } finally {
+            System.clearProperty(SuiteReport.ENABLED);
+        }
+        assertEquals(0, listener.getSummary().getTotalFailureCount());
+        // the report of a nested test plan is only written by the outermost one
+        SuiteReport.getInstance().write(directory);
+
+        String json = Files.readString(directory.resolve("weld-testing-report.json"));
+        assertTrue(json.contains("\"boot\": { \"count\": "), json);
+        assertTrue(json.contains("\"testClass\": \"" + TimingsFixture.class.getName() + "\""), json);
+        assertTrue(json.contains("\"testClass\": \"" + TimingsAutoFixture.class.getName() + "\""), json);
+        String text = Files.readString(directory.resolve("weld-testing-report.txt"));
+        assertTrue(text.contains("Slowest boot"), text);
+        assertTrue(text.contains(TimingsFixture.class.getName()), text);
+    }
+
+}
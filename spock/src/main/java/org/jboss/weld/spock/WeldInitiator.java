@@ -30,6 +30,7 @@ import jakarta.enterprise.inject.spi.InjectionPoint;
 import org.jboss.weld.environment.se.Weld;
 import org.jboss.weld.environment.se.WeldContainer;
 import org.jboss.weld.junit.AbstractWeldInitiator;
+import org.jboss.weld.junit.PackageIndex;
 
 /**
  * Weld initiator - can be used to customize the Weld SE container started by
@@ -115,7 +116,7 @@ public class WeldInitiator extends AbstractWeldInitiator {
                 weld.addBeanClass(clazz);
             }
         }
-        return from(weld);
+        return from(weld).withDeploymentClasses(beanClasses);
     }
 
     /**
@@ -168,6 +169,11 @@ public class WeldInitiator extends AbstractWeldInitiator {
             return this;
         }
 
+        // the protected method of AbstractBuilder is not accessible from WeldInitiator itself
+        private Builder withDeploymentClasses(Class<?>... beanClasses) {
+            return deploymentClasses(beanClasses);
+        }
+
         @Override
         protected WeldInitiator build(Weld weld, List<Object> instancesToInject,
                 Set<Class<? extends Annotation>> scopesToActivate, Set<Bean<?>> beans) {
@@ -199,7 +205,7 @@ public class WeldInitiator extends AbstractWeldInitiator {
         Weld weld = WeldInitiator.this.weld;
         if (weld == null) {
             // null in case of fromTestPackage() was used
-            weld = createWeld().addPackage(false, testInstance.getClass());
+            weld = PackageIndex.addPackage(createWeld(), false, testInstance.getClass());
         }
 
         return initWeldContainer(weld);
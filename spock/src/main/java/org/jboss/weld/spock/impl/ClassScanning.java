@@ -39,7 +39,7 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -52,12 +52,13 @@ import jakarta.enterprise.context.NormalScope;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
 import jakarta.enterprise.inject.Stereotype;
-import jakarta.enterprise.inject.spi.Extension;
 import jakarta.inject.Inject;
 import jakarta.inject.Qualifier;
 import jakarta.interceptor.Interceptor;
 
 import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.junit.ClassScanningCache;
+import org.jboss.weld.junit.ScanResult;
 import org.jboss.weld.spock.auto.AddBeanClasses;
 import org.jboss.weld.spock.auto.AddEnabledDecorators;
 import org.jboss.weld.spock.auto.AddEnabledInterceptors;
@@ -79,12 +80,24 @@ import org.spockframework.runtime.model.FeatureMetadata;
  */
 class ClassScanning {
     static void scanForRequiredBeanClasses(Class<?> testClass, Weld weld, boolean explicitInjection) {
+        ScanResult result = ClassScanningCache.getOrCompute(Collections.singletonList(testClass), explicitInjection,
+                () -> scan(testClass, explicitInjection));
+
+        ClassLoader classLoader = testClass.getClassLoader();
+        result.applyTo(weld, classLoader);
+        weld.addExtension(new ExcludedBeansExtension(result.getExcludedBeanTypes(classLoader),
+                result.getExcludedBeanClasses(classLoader)));
+    }
+
+    private static ScanResult scan(Class<?> testClass, boolean explicitInjection) {
+        ScanResult.Builder result = ScanResult.builder();
+
         List<Class<?>> classesToProcess = new ArrayList<>();
         classesToProcess.add(testClass);
 
-        Set<Class<?>> foundClasses = new HashSet<>();
-        Set<Type> excludedBeanTypes = new HashSet<>();
-        Set<Class<?>> excludedBeanClasses = new HashSet<>();
+        Set<Class<?>> foundClasses = new LinkedHashSet<>();
+        Set<Type> excludedBeanTypes = new LinkedHashSet<>();
+        Set<Class<?>> excludedBeanClasses = new LinkedHashSet<>();
 
         while (!classesToProcess.isEmpty()) {
             Class<?> currClass = classesToProcess.remove(0);
@@ -97,6 +110,7 @@ class ClassScanning {
             }
 
             foundClasses.add(currClass);
+            result.visit(currClass);
 
             findAnnotatedFields(currClass, ExcludeBean.class).stream()
                     .map(Field::getType)
@@ -152,29 +166,28 @@ class ClassScanning {
             AnnotationSupport.findRepeatableAnnotations(currClass, AddPackages.class)
                     .forEach(ann -> stream(ann.value())
                             .distinct()
-                            .forEach(cls -> weld.addPackage(ann.recursively(), cls)));
+                            .forEach(cls -> result.addPackage(ann.recursively(), cls)));
 
             AnnotationSupport.findRepeatableAnnotations(currClass, AddBeanClasses.class).stream()
                     .flatMap(ann -> stream(ann.value()))
                     .distinct()
                     .forEach(it -> {
                         classesToProcess.add(it);
-                        weld.addBeanClass(it);
+                        result.addBeanClass(it);
                     });
 
             AnnotationSupport.findRepeatableAnnotations(currClass, AddExtensions.class).stream()
                     .flatMap(ann -> stream(ann.value()))
                     .distinct()
-                    .map(ClassScanning::createExtension)
-                    .forEach(weld::addExtension);
+                    .forEach(result::addExtension);
 
             AnnotationSupport.findRepeatableAnnotations(currClass, AddEnabledInterceptors.class).stream()
                     .flatMap(ann -> stream(ann.value()))
                     .distinct()
                     .forEach(interceptor -> {
                         classesToProcess.add(interceptor);
-                        weld.addInterceptor(interceptor);
-                        weld.addBeanClass(interceptor);
+                        result.addInterceptor(interceptor);
+                        result.addBeanClass(interceptor);
                     });
 
             AnnotationSupport.findRepeatableAnnotations(currClass, AddEnabledDecorators.class).stream()
@@ -182,19 +195,19 @@ class ClassScanning {
                     .distinct()
                     .forEach(decorator -> {
                         classesToProcess.add(decorator);
-                        weld.addDecorator(decorator);
-                        weld.addBeanClass(decorator);
+                        result.addDecorator(decorator);
+                        result.addBeanClass(decorator);
                     });
 
             AnnotationSupport.findRepeatableAnnotations(currClass, EnableAlternatives.class).stream()
                     .flatMap(ann -> stream(ann.value()))
                     .distinct()
-                    .forEach(weld::addAlternative);
+                    .forEach(result::addAlternative);
 
             AnnotationSupport.findRepeatableAnnotations(currClass, EnableAlternativeStereotypes.class).stream()
                     .flatMap(ann -> stream(ann.value()))
                     .distinct()
-                    .forEach(weld::addAlternativeStereotype);
+                    .forEach(result::addAlternativeStereotype);
 
             AnnotationSupport.findRepeatableAnnotations(currClass, ExcludeBeanClasses.class).stream()
                     .flatMap(ann -> stream(ann.value()))
@@ -204,11 +217,15 @@ class ClassScanning {
 
         for (Class<?> foundClass : foundClasses) {
             if (hasBeanDefiningAnnotation(foundClass)) {
-                weld.addBeanClass(foundClass);
+                result.addBeanClass(foundClass);
             }
         }
 
-        weld.addExtension(new ExcludedBeansExtension(excludedBeanTypes, excludedBeanClasses));
+        // excluded bean types are always classes, see @ExcludeBean
+        excludedBeanTypes.forEach(type -> result.excludeBeanType((Class<?>) type));
+        excludedBeanClasses.forEach(result::excludeBeanClass);
+
+        return result.build();
     }
 
     private static void addClassesToProcess(Collection<Class<?>> classesToProcess, Type type) {
@@ -243,14 +260,6 @@ class ClassScanning {
         return types;
     }
 
-    private static Extension createExtension(Class<? extends Extension> clazz) {
-        try {
-            return clazz.getDeclaredConstructor().newInstance();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-
     private static boolean isBeanParameterAnnotation(Annotation ann) {
         return isAnnotated(ann.annotationType(), Qualifier.class);
     }
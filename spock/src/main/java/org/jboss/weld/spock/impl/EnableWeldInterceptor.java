@@ -26,17 +26,24 @@ import java.lang.reflect.Parameter;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.WeakHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
 
 import jakarta.enterprise.inject.spi.BeanManager;
 
 import org.jboss.weld.inject.WeldInstance;
+import org.jboss.weld.junit.LifecyclePhase;
+import org.jboss.weld.junit.LifecycleTimings;
+import org.jboss.weld.junit.SuiteReport;
 import org.jboss.weld.spock.WeldInitiator;
 import org.jboss.weld.spock.WeldSpockEnricher;
 import org.spockframework.runtime.extension.IMethodInterceptor;
 import org.spockframework.runtime.extension.IMethodInvocation;
 import org.spockframework.runtime.model.FeatureInfo;
+import org.spockframework.runtime.model.IterationInfo;
 
 /**
  * A Spock interceptor, that serves as base for the manual and automatic interceptors and has the common logic.
@@ -48,9 +55,15 @@ import org.spockframework.runtime.model.FeatureInfo;
  * @author Björn Kautler
  */
 abstract class EnableWeldInterceptor implements IMethodInterceptor {
+    // a @Shared initiator may be used by several data-driven features with scope FEATURE which may run concurrently
+    private static final Map<WeldInitiator, Semaphore> SHARED_INITIATOR_LOCKS = synchronizedMap(new WeakHashMap<>());
+
     protected final List<WeldSpockEnricher> weldSpockEnrichers;
-    private final Map<Object, WeldInitiator> weldInitiators = synchronizedMap(new WeakHashMap<>());
-    private final List<FeatureInfo> handledFeatures = new CopyOnWriteArrayList<>();
+    // the sole weld initiator of this interceptor in case it is around a specification or a feature
+    private volatile WeldInitiator weldInitiator;
+    // the weld initiators of the currently running iterations in case the interceptor is around iterations
+    private final Map<IterationInfo, WeldInitiator> iterationWeldInitiators = new ConcurrentHashMap<>();
+    private final Set<FeatureInfo> handledFeatures = ConcurrentHashMap.newKeySet();
 
     public EnableWeldInterceptor(List<WeldSpockEnricher> weldSpockEnrichers) {
         this.weldSpockEnrichers = weldSpockEnrichers;
@@ -60,26 +73,98 @@ abstract class EnableWeldInterceptor implements IMethodInterceptor {
 
     @Override
     public void intercept(IMethodInvocation invocation) throws Throwable {
+        if (!SuiteReport.isEnabled()) {
+            interceptWithWeld(invocation);
+            return;
+        }
+        LifecycleTimings timings = new LifecycleTimings();
+        LifecycleTimings previousTimings = LifecycleTimings.current();
+        LifecycleTimings.setCurrent(timings);
+        try {
+            interceptWithWeld(invocation);
+        } finally {
+            LifecycleTimings.setCurrent(previousTimings);
+            IterationInfo iteration = invocation.getIteration();
+            FeatureInfo feature = invocation.getFeature();
+            SuiteReport.getInstance().add(invocation.getSpec().getReflection().getName(),
+                    iteration != null ? iteration.getDisplayName() : feature != null ? feature.getName() : null, timings);
+        }
+    }
+
+    private void interceptWithWeld(IMethodInvocation invocation) throws Throwable {
+        long start = System.nanoTime();
         WeldInitiator weldInitiator = weldInit(invocation);
-        weldInitiator.addObjectToInjectInto(invocation.getSharedInstance());
-        weldInitiator.initWeld(invocation.getInstance());
+        LifecycleTimings.record(LifecyclePhase.SCANNING, start);
+        IterationInfo iteration = invocation.getIteration();
+        Semaphore sharedInitiatorLock = null;
+        if ((iteration == null) && (invocation.getFeature() != null)) {
+            sharedInitiatorLock = SHARED_INITIATOR_LOCKS.computeIfAbsent(weldInitiator, key -> new Semaphore(1));
+            acquire(sharedInitiatorLock);
+        }
         try {
-            Object id = (invocation.getIteration() == null) ? null : invocation.getInstance();
-            weldInitiators.put(id, weldInitiator);
-            invocation.proceed();
+            weldInitiator.addObjectToInjectInto(invocation.getSharedInstance());
+            weldInitiator.initWeld(invocation.getInstance());
+            try {
+                if (iteration == null) {
+                    this.weldInitiator = weldInitiator;
+                } else {
+                    iterationWeldInitiators.put(iteration, weldInitiator);
+                }
+                invocation.proceed();
+            } finally {
+                try {
+                    weldInitiator.shutdownWeld();
+                } finally {
+                    if (iteration == null) {
+                        this.weldInitiator = null;
+                    } else {
+                        iterationWeldInitiators.remove(iteration);
+                    }
+                }
+            }
         } finally {
-            weldInitiator.shutdownWeld();
+            if (sharedInitiatorLock != null) {
+                sharedInitiatorLock.release();
+            }
+        }
+    }
+
+    private WeldInitiator getWeldInitiator(IMethodInvocation invocation) {
+        WeldInitiator weldInitiator = this.weldInitiator;
+        if ((weldInitiator == null) && (invocation.getIteration() != null)) {
+            weldInitiator = iterationWeldInitiators.get(invocation.getIteration());
         }
+        return weldInitiator;
+    }
+
+    private static void acquire(Semaphore lock) throws InterruptedException {
+        // compensate for the blocked worker as the JUnit Platform executes specifications in a ForkJoinPool
+        ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+            private boolean acquired;
+
+            @Override
+            public boolean block() throws InterruptedException {
+                if (!acquired) {
+                    lock.acquire();
+                    acquired = true;
+                }
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                if (!acquired) {
+                    acquired = lock.tryAcquire();
+                }
+                return acquired;
+            }
+        });
     }
 
     public IMethodInterceptor getTestInstanceInjector() {
         return invocation -> {
             Object testInstance = invocation.getInstance();
-
-            WeldInitiator weldInitiator = weldInitiators.get(null);
-            if (weldInitiator == null) {
-                weldInitiator = weldInitiators.get(testInstance);
-            }
+            WeldInitiator weldInitiator = getWeldInitiator(invocation);
 
             try (AutoCloseable contextReleaser = weldInitiator.injectNonContextual(testInstance)) {
                 invocation.proceed();
@@ -109,15 +194,10 @@ abstract class EnableWeldInterceptor implements IMethodInterceptor {
                 return;
             }
 
-            Object testInstance = invocation.getInstance();
-
             // get the sole weld initiator of this interceptor
             // in case it is around a specification or parameterized feature
-            WeldInitiator weldInitiator = weldInitiators.get(null);
             // or get the weld initiator for the current iteration
-            if (weldInitiator == null) {
-                weldInitiator = weldInitiators.get(testInstance);
-            }
+            WeldInitiator weldInitiator = getWeldInitiator(invocation);
             // the fixture method interceptors for all features are triggered for each iteration
             // so if there are multiple features not all have a matching initiator of course
             if (weldInitiator == null) {
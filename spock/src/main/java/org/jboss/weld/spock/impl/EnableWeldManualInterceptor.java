@@ -24,6 +24,7 @@ import static java.util.stream.Collectors.toList;
 import java.util.List;
 
 import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.junit.PackageIndex;
 import org.jboss.weld.spock.EnableWeld;
 import org.jboss.weld.spock.WeldInitiator;
 import org.jboss.weld.spock.WeldSetup;
@@ -84,7 +85,7 @@ class EnableWeldManualInterceptor extends EnableWeldInterceptor {
                 Weld weld = WeldInitiator.createWeld();
                 WeldInitiator.Builder builder = WeldInitiator.from(weld);
 
-                weld.addPackage(false, invocation.getSpec().getReflection());
+                PackageIndex.addPackage(weld, false, invocation.getSpec().getReflection());
 
                 // Apply discovered enrichers
                 for (WeldSpockEnricher enricher : weldSpockEnrichers) {
@@ -0,0 +1,45 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.spock.impl;
+
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.weld.junit.SuiteReport;
+import org.spockframework.runtime.extension.IGlobalExtension;
+
+/**
+ * A global Spock extension writing the {@link SuiteReport} once all specifications were executed. Nothing happens unless the
+ * report is enabled via the {@value SuiteReport#ENABLED} system property.
+ */
+public class SuiteReportExtension implements IGlobalExtension {
+
+    private static final Logger LOGGER = Logger.getLogger(SuiteReportExtension.class.getName());
+
+    @Override
+    public void stop() {
+        if (SuiteReport.isEnabled()) {
+            try {
+                SuiteReport.getInstance().write();
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Unable to write the Weld testing report", e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.weld.spock.parallel
+
+import jakarta.enterprise.context.RequestScoped
+import jakarta.inject.Inject
+
+import org.jboss.weld.spock.EnableWeld
+import org.jboss.weld.spock.WeldInitiator
+import org.jboss.weld.spock.WeldSetup
+import spock.lang.Execution
+import spock.lang.Specification
+
+import static org.spockframework.runtime.model.parallel.ExecutionMode.CONCURRENT
+
+/**
+ * Each iteration uses its own container and the iterations are executed concurrently.
+ */
+@EnableWeld
+@Execution(CONCURRENT)
+class ParallelIterationScopeTest extends Specification {
+    @WeldSetup
+    def weld = WeldInitiator.from(ParallelRequestBean).activate(RequestScoped).build()
+
+    @Inject
+    ParallelRequestBean requestBean
+
+    def 'concurrent iterations should not share a container'(int i, ParallelRequestBean parameter) {
+        given:
+            def containerId = weld.id
+            def value = UUID.randomUUID().toString()
+            requestBean.value = value
+
+        when:
+            Thread.sleep(2)
+
+        then:
+            requestBean.value == value
+            parameter.value == value
+            weld.id == containerId
+
+        where:
+            i << (1..50)
+    }
+
+    def 'concurrent iterations of another feature should not share a container'(int i) {
+        given:
+            def containerId = weld.id
+            def value = UUID.randomUUID().toString()
+            requestBean.value = value
+
+        when:
+            Thread.sleep(2)
+
+        then:
+            requestBean.value == value
+            weld.id == containerId
+
+        where:
+            i << (1..50)
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.weld.spock.parallel
+
+import java.util.concurrent.ConcurrentHashMap
+
+import org.jboss.weld.spock.EnableWeld
+import org.jboss.weld.spock.WeldInitiator
+import org.jboss.weld.spock.WeldSetup
+import spock.lang.Execution
+import spock.lang.Shared
+import spock.lang.Specification
+
+import static org.jboss.weld.spock.EnableWeld.Scope.FEATURE
+import static org.spockframework.runtime.model.parallel.ExecutionMode.CONCURRENT
+
+/**
+ * The data-driven features share a {@code @Shared} initiator and are scheduled concurrently, so they have to use it
+ * one after another.
+ */
+@Execution(CONCURRENT)
+@EnableWeld(scope = FEATURE)
+class ParallelSharedInitiatorTest extends Specification {
+    @Shared
+    @WeldSetup
+    def weld = WeldInitiator.of(ParallelApplicationBean)
+
+    @Shared
+    def beanIds = new ConcurrentHashMap<String, Set<String>>()
+
+    def 'first feature'(int i) {
+        expect:
+            record('first')
+
+        where:
+            i << (1..50)
+    }
+
+    def 'second feature'(int i) {
+        expect:
+            record('second')
+
+        where:
+            i << (1..50)
+    }
+
+    def 'third feature'(int i) {
+        expect:
+            record('third')
+
+        where:
+            i << (1..50)
+    }
+
+    def cleanupSpec() {
+        assert beanIds.size() == 3
+        // each feature used its own container exclusively
+        assert beanIds.values()*.size() == [1, 1, 1]
+        assert beanIds.values().collect { it.first() }.unique().size() == 3
+    }
+
+    private boolean record(String feature) {
+        assert weld.isRunning()
+        beanIds.computeIfAbsent(feature, { ConcurrentHashMap.newKeySet() })
+                .add(weld.select(ParallelApplicationBean).get().id)
+        Thread.sleep(1)
+        return weld.isRunning()
+    }
+}